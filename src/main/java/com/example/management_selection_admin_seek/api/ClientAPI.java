@@ -5,17 +5,27 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import com.example.management_selection_admin_seek.dto.ClientCreateRequest;
 import com.example.management_selection_admin_seek.dto.ClientResponse;
 import com.example.management_selection_admin_seek.dto.ClientDetailResponse;
 import com.example.management_selection_admin_seek.dto.ClientMetricsResponse;
+import com.example.management_selection_admin_seek.dto.ClientAgeDistributionResponse;
+import com.example.management_selection_admin_seek.dto.ClientCursorPageResponse;
+import com.example.management_selection_admin_seek.dto.ClientCountResponse;
+import com.example.management_selection_admin_seek.enums.ClientCursorOrder;
+import com.example.management_selection_admin_seek.enums.ClientExportFormat;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import jakarta.validation.Valid;
 
+import java.util.List;
+
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -162,6 +172,241 @@ public interface ClientAPI {
         @Parameter(hidden = true) Pageable pageable
     );
 
+    /**
+     * Get clients with derived calculations (Slice, no total count)
+     */
+    @Operation(
+        summary = "🔒 Get clients with derived calculations (Slice, no total count)",
+        description = "Same listing as the paginated endpoint but only reports whether a next page exists. " +
+                      "No COUNT query is issued, so each request costs a single query. Use /client/count " +
+                      "when the total is needed. **Requires JWT authentication.**",
+        security = @SecurityRequirement(name = "Bearer Authentication"),
+        parameters = {
+            @Parameter(name = "page", description = "Page number (0-based)", example = "0"),
+            @Parameter(name = "size", description = "Page size (max 100)", example = "20"),
+        }
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200", 
+            description = "Clients retrieved successfully",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(
+                    name = "Client Slice Response",
+                    value = """
+                        {
+                          "content": [{
+                            "id": 1,
+                            "name": "Juan",
+                            "lastName": "Pérez",
+                            "fullName": "Juan Pérez",
+                            "age": 32,
+                            "birthDate": "1993-05-15",
+                            "calculatedCurrentAge": 32,
+                            "estimatedRetirementDate": "2058-09-19",
+                            "estimatedLifeExpectancy": "2071-09-19",
+                            "yearsToRetirement": 33,
+                            "estimatedRemainingYears": 46
+                          }],
+                          "number": 0,
+                          "size": 20,
+                          "numberOfElements": 20,
+                          "first": true,
+                          "last": false
+                        }
+                        """
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Unauthorized - Invalid or missing JWT token",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(
+                    name = "Unauthorized",
+                    value = "{\"timestamp\":\"2025-09-19T10:00:00.000+00:00\",\"status\":401,\"error\":\"Unauthorized\",\"message\":\"JWT token is missing or invalid\"}"
+                )
+            )
+        ),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping("/slice")
+    ResponseEntity<Slice<ClientDetailResponse>> getClientsSlice(
+        @Parameter(hidden = true) Pageable pageable
+    );
+
+    /**
+     * Get total number of clients
+     */
+    @Operation(
+        summary = "🔒 Get total number of clients",
+        description = "Return the total number of registered clients. Maintained in memory and updated on every " +
+                      "new client, so no COUNT query is issued. **Requires JWT authentication.**",
+        security = @SecurityRequirement(name = "Bearer Authentication")
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Count retrieved successfully",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ClientCountResponse.class),
+                examples = @ExampleObject(
+                    name = "Client Count",
+                    value = "{\"totalClients\":50}"
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Unauthorized - Invalid or missing JWT token",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(
+                    name = "Unauthorized",
+                    value = "{\"timestamp\":\"2025-09-19T10:00:00.000+00:00\",\"status\":401,\"error\":\"Unauthorized\",\"message\":\"JWT token is missing or invalid\"}"
+                )
+            )
+        ),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping("/count")
+    ResponseEntity<ClientCountResponse> getClientCount();
+
+    /**
+     * Export all clients with derived calculations (Streaming)
+     */
+    @Operation(
+        summary = "🔒 Export all clients with derived calculations (Streaming)",
+        description = "Stream every client with derived calculations as NDJSON (one JSON object per line) or CSV " +
+                      "with a header row. Rows are written as they are read from the database, so the export " +
+                      "runs in constant memory regardless of the number of clients. **Requires JWT authentication.**",
+        security = @SecurityRequirement(name = "Bearer Authentication")
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Export streamed successfully",
+            content = {
+                @Content(
+                    mediaType = "application/x-ndjson",
+                    examples = @ExampleObject(
+                        name = "NDJSON Export",
+                        value = """
+                            {"id":1,"name":"Juan","lastName":"Pérez","fullName":"Juan Pérez","age":32,"birthDate":"1993-05-15","calculatedCurrentAge":32,"estimatedRetirementDate":"2058-09-19","estimatedLifeExpectancy":"2071-09-19","yearsToRetirement":33,"estimatedRemainingYears":46}
+                            {"id":2,"name":"Ana","lastName":"Gómez","fullName":"Ana Gómez","age":28,"birthDate":"1997-02-01","calculatedCurrentAge":28,"estimatedRetirementDate":"2062-02-01","estimatedLifeExpectancy":"2075-02-01","yearsToRetirement":37,"estimatedRemainingYears":50}
+                            """
+                    )
+                ),
+                @Content(
+                    mediaType = "text/csv",
+                    examples = @ExampleObject(
+                        name = "CSV Export",
+                        value = """
+                            id,name,lastName,fullName,age,birthDate,creationDate,updateDate,calculatedCurrentAge,estimatedRetirementDate,estimatedLifeExpectancy,yearsToRetirement,estimatedRemainingYears
+                            1,Juan,Pérez,Juan Pérez,32,1993-05-15,2025-09-19T10:00,2025-09-19T10:00,32,2058-09-19,2071-09-19,33,46
+                            """
+                    )
+                )
+            }
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Unauthorized - Invalid or missing JWT token",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(
+                    name = "Unauthorized",
+                    value = "{\"timestamp\":\"2025-09-19T10:00:00.000+00:00\",\"status\":401,\"error\":\"Unauthorized\",\"message\":\"JWT token is missing or invalid\"}"
+                )
+            )
+        ),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping("/export")
+    ResponseEntity<StreamingResponseBody> exportClients(
+        @Parameter(description = "Output format", example = "NDJSON")
+        @RequestParam(defaultValue = "NDJSON") ClientExportFormat format
+    );
+
+    /**
+     * Get clients with derived calculations (Cursor-based)
+     */
+    @Operation(
+        summary = "🔒 Get clients with derived calculations (Cursor-based)",
+        description = "Retrieve clients using keyset (seek) pagination. Pass the returned 'nextCursor' to fetch the " +
+                      "following page. Every page costs the same regardless of depth and no total count is computed. " +
+                      "**Requires JWT authentication.**",
+        security = @SecurityRequirement(name = "Bearer Authentication")
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200", 
+            description = "Clients retrieved successfully",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ClientCursorPageResponse.class),
+                examples = @ExampleObject(
+                    name = "Cursor Page Response",
+                    value = """
+                        {
+                          "content": [{
+                            "id": 21,
+                            "name": "Juan",
+                            "lastName": "Pérez",
+                            "fullName": "Juan Pérez",
+                            "age": 32,
+                            "birthDate": "1993-05-15",
+                            "calculatedCurrentAge": 32,
+                            "estimatedRetirementDate": "2058-09-19",
+                            "estimatedLifeExpectancy": "2071-09-19",
+                            "yearsToRetirement": 33,
+                            "estimatedRemainingYears": 46
+                          }],
+                          "size": 20,
+                          "hasNext": true,
+                          "nextCursor": "djE6SURfQVNDOjQwOg"
+                        }
+                        """
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid cursor, order or page size",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(
+                    name = "Invalid Cursor",
+                    value = "{\"timestamp\":\"2025-09-19T10:00:00.000+00:00\",\"status\":400,\"error\":\"BUSINESS_RULE_VIOLATION\",\"message\":\"Invalid pagination cursor\"}"
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Unauthorized - Invalid or missing JWT token",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(
+                    name = "Unauthorized",
+                    value = "{\"timestamp\":\"2025-09-19T10:00:00.000+00:00\",\"status\":401,\"error\":\"Unauthorized\",\"message\":\"JWT token is missing or invalid\"}"
+                )
+            )
+        ),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping("/cursor")
+    ResponseEntity<ClientCursorPageResponse> getClientsByCursor(
+        @Parameter(description = "Opaque cursor returned as 'nextCursor' by the previous page (omit for the first page)")
+        @RequestParam(required = false) String cursor,
+        @Parameter(description = "Ordering of the listing", example = "ID_ASC")
+        @RequestParam(defaultValue = "ID_ASC") ClientCursorOrder order,
+        @Parameter(description = "Page size (max 100)", example = "20")
+        @RequestParam(defaultValue = "20") int size
+    );
+
     /**
      * Get client metrics and statistics
      */
@@ -200,4 +445,60 @@ public interface ClientAPI {
     })
     @GetMapping("/metrics")
     ResponseEntity<ClientMetricsResponse> getClientMetrics();
-}
\ No newline at end of file
+
+    /**
+     * Get client age distribution (percentiles and histogram)
+     */
+    @Operation(
+        summary = "🔒 Get client age distribution",
+        description = "Retrieve age percentiles and a bucketed age histogram of all clients. " +
+                      "Computed from the age frequency table, so response time does not grow with the number of clients. " +
+                      "**Requires JWT authentication.**",
+        security = @SecurityRequirement(name = "Bearer Authentication")
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200", 
+            description = "Distribution retrieved successfully",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ClientAgeDistributionResponse.class),
+                examples = @ExampleObject(
+                    name = "Client Age Distribution",
+                    value = "{\"totalClients\":7,\"bucketWidth\":10,\"percentiles\":{\"p10\":25.6,\"p50\":30.0,\"p90\":39.2}," +
+                            "\"histogram\":[{\"fromAge\":18,\"toAge\":27,\"count\":2},{\"fromAge\":28,\"toAge\":37,\"count\":4}]}"
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid bucket width or percentile list",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(
+                    name = "Invalid Parameters",
+                    value = "{\"timestamp\":\"2025-09-19T10:00:00.000+00:00\",\"status\":400,\"error\":\"BUSINESS_RULE_VIOLATION\",\"message\":\"Bucket width must be between 1 and 103 years\"}"
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Unauthorized - Invalid or missing JWT token",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(
+                    name = "Unauthorized",
+                    value = "{\"timestamp\":\"2025-09-19T10:00:00.000+00:00\",\"status\":401,\"error\":\"Unauthorized\",\"message\":\"JWT token is missing or invalid\"}"
+                )
+            )
+        ),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping("/metrics/distribution")
+    ResponseEntity<ClientAgeDistributionResponse> getAgeDistribution(
+        @Parameter(description = "Width in years of each histogram bucket (1-103)", example = "5")
+        @RequestParam(defaultValue = "5") int bucketWidth,
+        @Parameter(description = "Percentiles to compute, between 0 and 100", example = "10,25,75,90,99")
+        @RequestParam(defaultValue = "10,25,75,90,99") List<Double> percentiles
+    );
+}
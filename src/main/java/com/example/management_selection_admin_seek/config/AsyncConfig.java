@@ -31,4 +31,22 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
+
+    /**
+     * Dedicated pool for stale-while-revalidate cache refreshes
+     * Kept apart from taskExecutor so background refreshes never queue behind client processing;
+     * when it is saturated the refresh is skipped and the stale value keeps being served
+     */
+    @Bean(name = "cacheRefreshExecutor")
+    public Executor cacheRefreshExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(16);
+        executor.setThreadNamePrefix("cache-refresh-");
+        
+        executor.initialize();
+        return executor;
+    }
 }
@@ -0,0 +1,71 @@
+package com.example.management_selection_admin_seek.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.function.IntFunction;
+
+/**
+ * Picks the BCrypt cost for this host from a target verification latency
+ *
+ * Each cost step doubles the work, so the time of a hash at the floor cost is measured (median of a few
+ * runs, after a warm-up) and the cost is raised while the estimate stays within the target:
+ * cost = floor + log2(target / measured), clamped to [min-cost, max-cost].
+ * min-cost is the security floor: a slow host gets slower logins, never weaker hashes.
+ */
+@Slf4j
+public class BCryptCostCalibrator {
+
+    static final int SAMPLES = 3;
+
+    private final IntFunction<Duration> hashTimer;
+
+    public BCryptCostCalibrator() {
+        this(BCryptCostCalibrator::timeHash);
+    }
+
+    BCryptCostCalibrator(IntFunction<Duration> hashTimer) {
+        this.hashTimer = hashTimer;
+    }
+
+    /**
+     * Measure this host and return the cost closest to, without exceeding, the target latency
+     */
+    public int calibrate(Duration targetLatency, int minCost, int maxCost) {
+        hashTimer.apply(minCost); // warm-up
+        Duration[] samples = new Duration[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            samples[i] = hashTimer.apply(minCost);
+        }
+        Arrays.sort(samples);
+        Duration measured = samples[SAMPLES / 2];
+
+        int cost = costFor(measured, minCost, maxCost, targetLatency);
+        log.info("BCrypt cost calibrated to {} (cost {} took {} ms, target {} ms, allowed {}-{})",
+                cost, minCost, measured.toMillis(), targetLatency.toMillis(), minCost, maxCost);
+        return cost;
+    }
+
+    /**
+     * Highest cost whose estimated hash time stays within the target, given the time at minCost
+     */
+    static int costFor(Duration measuredAtMinCost, int minCost, int maxCost, Duration targetLatency) {
+        long measuredNanos = Math.max(1L, measuredAtMinCost.toNanos());
+        int cost = minCost;
+        long estimatedNanos = measuredNanos;
+        while (cost < maxCost && estimatedNanos * 2 <= targetLatency.toNanos()) {
+            estimatedNanos *= 2;
+            cost++;
+        }
+        return cost;
+    }
+
+    private static Duration timeHash(int cost) {
+        String salt = BCrypt.gensalt(cost);
+        long start = System.nanoTime();
+        BCrypt.hashpw("calibration-password", salt);
+        return Duration.ofNanos(System.nanoTime() - start);
+    }
+}
@@ -1,19 +1,107 @@
 package com.example.management_selection_admin_seek.config;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Executor;
 
 /**
  * Cache Configuration
- * Enables Spring Cache abstraction for the application
+ * Enables Spring Cache abstraction backed by bounded Caffeine caches
+ * 
+ * Each cache gets its own Caffeine spec (size limit, expiry, recordStats) from application.properties:
+ * - app.cache.clients.spec + app.cache.clients.ttl
+ * - app.cache.client-metrics.spec
+ * - app.cache.users.spec
+ * - app.cache.default.spec (any other cache created on demand)
+ * 
+ * "clients" holds derived fields computed against today's date (current age, years to retirement),
+ * so its entries expire after app.cache.clients.ttl or at the next midnight in app.clients.time-zone,
+ * whichever comes first (see MidnightExpiry). Its spec must not set expireAfterWrite.
+ * 
+ * With recordStats, Spring Boot Actuator binds every cache to the Micrometer registry at startup
+ * (cache_gets_total, cache_evictions_total, cache_size, cache_load_*), exposed on /actuator/prometheus
  * 
+ * Every cache is a CoalescingCaffeineCache, so @Cacheable(sync = true) methods load each key once
+ * while concurrent callers wait for that result (cache_coalesced_requests_total)
+ * 
+ * "users" holds UserService.loadUserByUsername results keyed by the identifier used (username or email),
+ * with a short expireAfterWrite; any method that changes a user must evict both its username and email
+ * 
+ * "clients" and "client-metrics" are stale-while-revalidate: past app.cache.*.refresh-after the cached
+ * value is still served while it is recomputed on cacheRefreshExecutor, up to app.cache.*.max-staleness
+ * (cache_served_value_age_seconds, cache_refreshes_total). The refresh calls CacheReloader (ClientService),
+ * injected lazily since ClientService itself depends on the caches
  */
 @Configuration
 @EnableCaching
+@Slf4j
 public class CacheConfig {
-    
+
+    public static final String CLIENTS_CACHE = "clients";
+    public static final String CLIENT_METRICS_CACHE = "client-metrics";
+    public static final String USERS_CACHE = "users";
+
     /**
-     * Cache configuration is handled via application.properties:
-     * - spring.cache.type=simple
+     * Caffeine cache manager with per-cache policies
+     * Null values are rejected so a cached null can never hide a real result
      */
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${app.cache.clients.spec}") String clientsSpec,
+            @Value("${app.cache.clients.ttl}") Duration clientsTimeToLive,
+            @Value("${app.cache.clients.refresh-after}") Duration clientsRefreshAfter,
+            @Value("${app.cache.clients.max-staleness}") Duration clientsMaxStaleness,
+            @Value("${app.cache.client-metrics.spec}") String clientMetricsSpec,
+            @Value("${app.cache.client-metrics.refresh-after}") Duration clientMetricsRefreshAfter,
+            @Value("${app.cache.client-metrics.max-staleness}") Duration clientMetricsMaxStaleness,
+            @Value("${app.cache.users.spec}") String usersSpec,
+            @Value("${app.cache.default.spec}") String defaultSpec,
+            Clock clock,
+            MeterRegistry meterRegistry,
+            @Qualifier("cacheRefreshExecutor") Executor cacheRefreshExecutor,
+            @Lazy CacheReloader cacheReloader) {
+        Map<String, CoalescingCaffeineCache.StaleWhileRevalidate> refreshPolicies = Map.of(
+                CLIENTS_CACHE, new CoalescingCaffeineCache.StaleWhileRevalidate(
+                        clientsRefreshAfter, clientsMaxStaleness, cacheRefreshExecutor,
+                        key -> cacheReloader.reload(CLIENTS_CACHE, key)),
+                CLIENT_METRICS_CACHE, new CoalescingCaffeineCache.StaleWhileRevalidate(
+                        clientMetricsRefreshAfter, clientMetricsMaxStaleness, cacheRefreshExecutor,
+                        key -> cacheReloader.reload(CLIENT_METRICS_CACHE, key)));
+        
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager() {
+            @Override
+            protected Cache adaptCaffeineCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+                return new CoalescingCaffeineCache(name, cache, isAllowNullValues(), meterRegistry,
+                        refreshPolicies.get(name), Ticker.systemTicker());
+            }
+        };
+        cacheManager.setAllowNullValues(false);
+        cacheManager.setCacheSpecification(defaultSpec);
+        
+        cacheManager.registerCustomCache(CLIENTS_CACHE, Caffeine.from(clientsSpec)
+                .expireAfter(new MidnightExpiry(clock, clientsTimeToLive))
+                .build());
+        cacheManager.registerCustomCache(CLIENT_METRICS_CACHE, Caffeine.from(clientMetricsSpec).build());
+        cacheManager.registerCustomCache(USERS_CACHE, Caffeine.from(usersSpec).build());
+        
+        log.info("Caffeine caches configured - {}: [{}] expiring after {} or at midnight {}, {}: [{}], {}: [{}]",
+                CLIENTS_CACHE, clientsSpec, clientsTimeToLive, clock.getZone(), CLIENT_METRICS_CACHE, clientMetricsSpec,
+                USERS_CACHE, usersSpec);
+        return cacheManager;
+    }
 }
@@ -0,0 +1,22 @@
+package com.example.management_selection_admin_seek.config;
+
+/**
+ * Recomputes entries of the stale-while-revalidate caches for their background refresh
+ *
+ * Implemented by the service that owns the cached methods and called through its Spring proxy,
+ * so a refresh runs with the same interceptors (read-only transaction) as a regular call, without the
+ * cache itself, instead of re-running the Callable captured from a request that already returned
+ */
+@FunctionalInterface
+public interface CacheReloader {
+
+    /**
+     * Compute the current value of a cache entry, never reading the cache
+     *
+     * @param cacheName cache the entry belongs to
+     * @param key cache key of the entry
+     * @return the value to store, never null
+     * @throws IllegalArgumentException when the key does not belong to a cache this reloader serves
+     */
+    Object reload(String cacheName, Object key);
+}
@@ -0,0 +1,48 @@
+package com.example.management_selection_admin_seek.config;
+
+import com.example.management_selection_admin_seek.service.ClientDataVersion;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Conditional GET support for client reads
+ *
+ * Runs before @ClientDataVersioned handlers and compares If-None-Match / If-Modified-Since with the
+ * in-memory ClientDataVersion. A match is answered with 304 Not Modified before the controller runs,
+ * so polling clients cost neither a cache lookup nor serialization; otherwise ETag and Last-Modified
+ * are set on the response and the handler proceeds as usual.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ClientConditionalRequestInterceptor implements HandlerInterceptor {
+
+    private final ClientDataVersion clientDataVersion;
+
+    @Override
+    public boolean preHandle(@NonNull HttpServletRequest request,
+                             @NonNull HttpServletResponse response,
+                             @NonNull Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)
+                || !handlerMethod.hasMethodAnnotation(ClientDataVersioned.class)) {
+            return true;
+        }
+        ClientDataVersion.Validators validators = clientDataVersion.currentValidators();
+        if (validators == null) {
+            return true;
+        }
+        boolean notModified = new ServletWebRequest(request, response)
+                .checkNotModified(validators.eTag(), validators.lastModified());
+        if (notModified) {
+            log.debug("{} {} not modified ({})", request.getMethod(), request.getRequestURI(), validators.eTag());
+        }
+        return !notModified;
+    }
+}
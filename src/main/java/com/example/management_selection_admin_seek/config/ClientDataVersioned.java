@@ -0,0 +1,17 @@
+package com.example.management_selection_admin_seek.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a read-only controller method whose response depends only on the clients data and today's date
+ * ClientConditionalRequestInterceptor answers it with 304 Not Modified while the client data version is unchanged
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ClientDataVersioned {
+}
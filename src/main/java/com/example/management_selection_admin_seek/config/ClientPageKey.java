@@ -0,0 +1,23 @@
+package com.example.management_selection_admin_seek.config;
+
+import org.springframework.data.domain.Sort;
+
+/**
+ * Cache key of one page or slice of the client listing
+ * Immutable and compared by value; Sort is itself immutable with value equality, so no key string is built
+ *
+ * @param view which listing the entry belongs to
+ * @param page zero-based page number
+ * @param size page size
+ * @param sort requested sort, already checked against the sortable properties
+ */
+public record ClientPageKey(View view, int page, int size, Sort sort) {
+
+    /**
+     * Listing variant cached under the key
+     */
+    public enum View {
+        PAGE,
+        SLICE
+    }
+}
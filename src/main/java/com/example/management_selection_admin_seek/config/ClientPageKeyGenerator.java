@@ -0,0 +1,74 @@
+package com.example.management_selection_admin_seek.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Set;
+
+/**
+ * Key generator for the paged client listings in the "clients" cache
+ *
+ * Builds a ClientPageKey from the Pageable argument instead of concatenating a SpEL string on every call.
+ * isCacheable() bounds what may enter the cache (used as the @Cacheable condition):
+ * - pages deeper than app.cache.clients.max-cached-page are served but never cached
+ * - only whitelisted Client columns, with at most MAX_SORT_ORDERS orders, are cached,
+ *   so arbitrary sort permutations cannot fill the cache
+ */
+@Component(ClientPageKeyGenerator.BEAN_NAME)
+public class ClientPageKeyGenerator implements KeyGenerator {
+
+    public static final String BEAN_NAME = "clientPageKeyGenerator";
+
+    static final int MAX_SORT_ORDERS = 2;
+
+    static final Set<String> SORTABLE_PROPERTIES = Set.of(
+            "id", "name", "lastName", "age", "birthDate", "creationDate", "updateDate");
+
+    private final int maxCachedPage;
+
+    public ClientPageKeyGenerator(@Value("${app.cache.clients.max-cached-page:10}") int maxCachedPage) {
+        this.maxCachedPage = maxCachedPage;
+    }
+
+    @Override
+    @NonNull
+    public Object generate(@NonNull Object target, @NonNull Method method, @NonNull Object... params) {
+        Pageable pageable = pageableArgument(params);
+        ClientPageKey.View view = Page.class.isAssignableFrom(method.getReturnType())
+                ? ClientPageKey.View.PAGE
+                : ClientPageKey.View.SLICE;
+        return new ClientPageKey(view, pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort());
+    }
+
+    /**
+     * Whether a request may be cached: paged, within the cached depth and sorted only by whitelisted columns
+     */
+    public boolean isCacheable(Pageable pageable) {
+        if (pageable.isUnpaged() || pageable.getPageNumber() > maxCachedPage) {
+            return false;
+        }
+        Sort sort = pageable.getSort();
+        int orders = 0;
+        for (Sort.Order order : sort) {
+            if (++orders > MAX_SORT_ORDERS || !SORTABLE_PROPERTIES.contains(order.getProperty())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Pageable pageableArgument(Object[] params) {
+        for (Object param : params) {
+            if (param instanceof Pageable pageable) {
+                return pageable;
+            }
+        }
+        throw new IllegalArgumentException("Client page cache keys require a Pageable argument");
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.management_selection_admin_seek.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+import java.time.ZoneId;
+
+/**
+ * Clock Configuration
+ * 
+ * Provides a single Clock in the business time zone (app.clients.time-zone), so derived client
+ * calculations and the midnight expiry of cached client details agree on when "today" changes.
+ */
+@Configuration
+public class ClockConfig {
+
+    /**
+     * System clock in the configured business time zone
+     * 
+     * @param timeZone zone id such as "UTC" or "America/Bogota"
+     * @return Clock reading the system time in that zone
+     */
+    @Bean
+    public Clock clock(@Value("${app.clients.time-zone}") String timeZone) {
+        return Clock.system(ZoneId.of(timeZone));
+    }
+}
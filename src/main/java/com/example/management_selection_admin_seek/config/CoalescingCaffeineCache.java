@@ -0,0 +1,245 @@
+package com.example.management_selection_admin_seek.config;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Caffeine cache with single-flight loading and optional stale-while-revalidate
+ * for @Cacheable(sync = true) methods
+ *
+ * Single-flight: on a miss, the first caller for a key becomes the leader and computes the value through
+ * Caffeine (so load time and load count are still recorded); concurrent callers for the same key wait for
+ * the leader's result instead of running the same computation. Waiting callers are counted in
+ * cache.coalesced.requests. A failed load is propagated to every waiter and nothing is cached.
+ *
+ * Stale-while-revalidate: every stored value carries its write time. Once a value is older than
+ * refreshAfter it is still served immediately while one background refresh per key recomputes it on the
+ * refresh executor with the policy's reloader (never the caller's valueLoader, which belongs to a request
+ * that has already returned); the refreshed value only replaces the entry if nobody updated or evicted it
+ * meanwhile.
+ * Values older than maxStaleness are never served, callers load them synchronously instead.
+ * The age of every served value is recorded in cache.served.value.age.
+ */
+@Slf4j
+public class CoalescingCaffeineCache extends CaffeineCache {
+
+    private final ConcurrentMap<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Object, Boolean> refreshing = new ConcurrentHashMap<>();
+    private final StaleWhileRevalidate staleWhileRevalidate;
+    private final Ticker ticker;
+
+    private final Counter coalescedRequests;
+    private final Timer servedValueAge;
+    private final MeterRegistry meterRegistry;
+
+    public CoalescingCaffeineCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache,
+                                   boolean allowNullValues, MeterRegistry meterRegistry) {
+        this(name, cache, allowNullValues, meterRegistry, null, Ticker.systemTicker());
+    }
+
+    /**
+     * @param staleWhileRevalidate refresh policy, or null to only coalesce loads
+     * @param ticker time source for value ages (the system ticker outside tests)
+     */
+    public CoalescingCaffeineCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache,
+                                   boolean allowNullValues, MeterRegistry meterRegistry,
+                                   StaleWhileRevalidate staleWhileRevalidate, Ticker ticker) {
+        super(name, cache, allowNullValues);
+        this.staleWhileRevalidate = staleWhileRevalidate;
+        this.ticker = ticker;
+        this.meterRegistry = meterRegistry;
+        this.coalescedRequests = Counter.builder("cache.coalesced.requests")
+                .description("Requests that waited for an in-flight load of the same key instead of loading it")
+                .tag("cache", name)
+                .register(meterRegistry);
+        this.servedValueAge = Timer.builder("cache.served.value.age")
+                .description("Time since the served cached value was computed")
+                .tag("cache", name)
+                .register(meterRegistry);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        // Map view lookup does not record hit/miss stats, the delegated get below does
+        Object stored = getNativeCache().asMap().get(key);
+        if (stored instanceof StampedValue stamped) {
+            long age = ticker.read() - stamped.writtenAt;
+            if (staleWhileRevalidate == null || age < staleWhileRevalidate.refreshAfter().toNanos()) {
+                servedValueAge.record(age, TimeUnit.NANOSECONDS);
+                return super.get(key, valueLoader);
+            }
+            if (age < staleWhileRevalidate.maxStaleness().toNanos()) {
+                servedValueAge.record(age, TimeUnit.NANOSECONDS);
+                T stale = super.get(key, valueLoader);
+                refreshInBackground(key, stamped);
+                return stale;
+            }
+            // Too stale to serve: drop it (unless already replaced) and load synchronously
+            getNativeCache().asMap().remove(key, stamped);
+        }
+
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> leader = inFlight.putIfAbsent(key, flight);
+        if (leader != null) {
+            coalescedRequests.increment();
+            return (T) await(leader);
+        }
+
+        try {
+            T value = super.get(key, valueLoader);
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException | Error ex) {
+            flight.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        Object stored = super.lookup(key);
+        if (stored instanceof StampedValue stamped) {
+            servedValueAge.record(ticker.read() - stamped.writtenAt, TimeUnit.NANOSECONDS);
+        }
+        return stored;
+    }
+
+    @Override
+    protected Object toStoreValue(Object userValue) {
+        return stamp(userValue, ticker.read());
+    }
+
+    @Override
+    protected Object fromStoreValue(Object storeValue) {
+        return super.fromStoreValue(storeValue instanceof StampedValue stamped ? stamped.value : storeValue);
+    }
+
+    /**
+     * Atomically rewrite every entry, keeping its original write time
+     *
+     * @param remapping receives (key, cached value) and returns the value to keep, or null to evict the entry
+     */
+    public void updateEntries(BiFunction<Object, Object, Object> remapping) {
+        ConcurrentMap<Object, Object> entries = getNativeCache().asMap();
+        for (Object key : entries.keySet()) {
+            entries.computeIfPresent(key, (cacheKey, stored) -> {
+                Object updated = remapping.apply(cacheKey, fromStoreValue(stored));
+                if (updated == null) {
+                    return null;
+                }
+                long writtenAt = stored instanceof StampedValue stamped ? stamped.writtenAt : ticker.read();
+                return stamp(updated, writtenAt);
+            });
+        }
+    }
+
+    /**
+     * Number of keys currently being loaded
+     */
+    int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    private Object stamp(Object userValue, long writtenAt) {
+        return new StampedValue(super.toStoreValue(userValue), writtenAt);
+    }
+
+    /**
+     * Recompute a stale value on the refresh executor, at most one refresh per key at a time
+     */
+    private void refreshInBackground(Object key, StampedValue stale) {
+        if (refreshing.putIfAbsent(key, Boolean.TRUE) != null) {
+            return;
+        }
+        try {
+            staleWhileRevalidate.executor().execute(() -> {
+                try {
+                    Object refreshed = toStoreValue(staleWhileRevalidate.reloader().apply(key));
+                    boolean replaced = getNativeCache().asMap().replace(key, stale, refreshed);
+                    countRefresh(replaced ? "success" : "discarded");
+                } catch (Exception ex) {
+                    countRefresh("failure");
+                    log.warn("Background refresh of cache '{}' key '{}' failed, keeping the stale value: {}",
+                            getName(), key, ex.getMessage());
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            refreshing.remove(key);
+            countRefresh("rejected");
+            log.debug("Refresh executor is saturated, serving stale '{}' key '{}'", getName(), key);
+        }
+    }
+
+    private void countRefresh(String result) {
+        meterRegistry.counter("cache.refreshes", "cache", getName(), "result", result).increment();
+    }
+
+    private static Object await(CompletableFuture<Object> leader) {
+        try {
+            return leader.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (ex.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * Stale-while-revalidate policy of a cache
+     *
+     * @param refreshAfter age after which a served value triggers a background refresh
+     * @param maxStaleness age after which a value is no longer served (must not exceed the cache expiry to matter)
+     * @param executor executor running background refreshes
+     * @param reloader recomputes the value of a key for a background refresh
+     */
+    public record StaleWhileRevalidate(Duration refreshAfter, Duration maxStaleness, Executor executor,
+                                       Function<Object, Object> reloader) {
+
+        public StaleWhileRevalidate {
+            if (refreshAfter.compareTo(maxStaleness) > 0) {
+                throw new IllegalArgumentException(
+                        "refreshAfter (" + refreshAfter + ") must not exceed maxStaleness (" + maxStaleness + ")");
+            }
+        }
+    }
+
+    /**
+     * Stored value with the ticker time it was written at
+     * Compared by identity, so a background refresh only replaces the exact entry it started from
+     */
+    private static final class StampedValue {
+
+        private final Object value;
+        private final long writtenAt;
+
+        private StampedValue(Object value, long writtenAt) {
+            this.value = value;
+            this.writtenAt = writtenAt;
+        }
+    }
+}
@@ -1,6 +1,10 @@
 package com.example.management_selection_admin_seek.config;
 
+import com.example.management_selection_admin_seek.entity.User;
+import com.example.management_selection_admin_seek.enums.Role;
+import com.example.management_selection_admin_seek.service.JwtClaims;
 import com.example.management_selection_admin_seek.service.JwtService;
+import com.example.management_selection_admin_seek.service.UserRevocationRegistry;
 import com.example.management_selection_admin_seek.service.UserService;
 import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
@@ -9,6 +13,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -28,7 +33,11 @@ import java.io.IOException;
  * RESPONSIBILITIES:
  * - Intercepts ALL HTTP requests before they reach controllers
  * - Extracts JWT tokens from Authorization header (Bearer format)
- * - Validates token integrity, expiration, and user existence
+ * - Validates token integrity and expiration in a single parse, and user existence
+ * - Accepts access tokens only; a refresh token (it carries a jti) does not authenticate a request
+ * - Reuses the claims of tokens already verified (VerifiedTokenCache)
+ * - With app.jwt.stateless-principal, builds the principal from the claims and rejects disabled
+ *   users through UserRevocationRegistry, so authenticated requests do not query the database
  * - Sets Spring Security authentication context for authorized requests
  * - Handles JWT errors gracefully without breaking the request flow
  */
@@ -39,6 +48,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final UserService userService;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final UserRevocationRegistry userRevocationRegistry;
+
+    @Value("${app.jwt.stateless-principal:false}")
+    private boolean statelessPrincipal;
 
     private static final String AUTHORIZATION_HEADER = "Authorization";
     private static final String BEARER_PREFIX = "Bearer ";
@@ -58,16 +72,33 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 return;
             }
 
-            String username = jwtService.extractUsername(jwt);
+            // Signature, format and expiration are verified once per token; repeats come from the cache
+            JwtClaims claims = verifiedTokenCache.validate(jwt, jwtService::validateToken);
+            String username = claims.username();
             
             if (username == null || SecurityContextHolder.getContext().getAuthentication() != null) {
                 filterChain.doFilter(request, response);
                 return;
             }
 
-            UserDetails userDetails = userService.loadUserByUsername(username);
+            // Only access tokens authenticate requests; refresh tokens (those with a jti) are for /refresh
+            if (claims.tokenId() != null) {
+                log.debug("Refresh token presented as access token for user: {}", username);
+                filterChain.doFilter(request, response);
+                return;
+            }
+
+            if (statelessPrincipal && userRevocationRegistry.isRevoked(claims)) {
+                log.debug("JWT token rejected for disabled user: {}", username);
+                filterChain.doFilter(request, response);
+                return;
+            }
+
+            UserDetails userDetails = statelessPrincipal
+                    ? principalFromClaims(claims)
+                    : userService.loadUserByUsername(username);
             
-            if (jwtService.isTokenValid(jwt, userDetails)) {
+            if (username.equals(userDetails.getUsername())) {
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                     userDetails,
                     null,
@@ -95,6 +126,20 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * Build the principal from verified claims, without reading the user row
+     * Only what the token carries is set: id, username, role (and so the authorities) and enabled status;
+     * email, password and names stay null
+     */
+    private UserDetails principalFromClaims(JwtClaims claims) {
+        return User.builder()
+                .id(claims.userId())
+                .username(claims.username())
+                .role(Role.valueOf(claims.userRole()))
+                .enabled(claims.enabled())
+                .build();
+    }
+
     /**
      * Extract JWT token from HTTP request Authorization header
      */
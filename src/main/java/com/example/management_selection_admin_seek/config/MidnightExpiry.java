@@ -0,0 +1,50 @@
+package com.example.management_selection_admin_seek.config;
+
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+
+/**
+ * Caffeine expiry that never lets an entry outlive the current day
+ * 
+ * Entries expire after the configured TTL or at the next midnight of the clock's zone, whichever
+ * comes first. Used for caches holding values derived from "today" (current age, years to retirement),
+ * so a long TTL can be used without serving yesterday's ages. Reads do not extend the lifetime.
+ */
+public class MidnightExpiry implements Expiry<Object, Object> {
+
+    private final Clock clock;
+    private final long timeToLiveNanos;
+
+    public MidnightExpiry(Clock clock, Duration timeToLive) {
+        this.clock = clock;
+        this.timeToLiveNanos = timeToLive.toNanos();
+    }
+
+    @Override
+    public long expireAfterCreate(Object key, Object value, long currentTime) {
+        return Math.min(timeToLiveNanos, nanosUntilMidnight());
+    }
+
+    @Override
+    public long expireAfterUpdate(Object key, Object value, long currentTime, long currentDuration) {
+        return expireAfterCreate(key, value, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(Object key, Object value, long currentTime, long currentDuration) {
+        return currentDuration;
+    }
+
+    /**
+     * Time left until the start of the next day in the clock's zone
+     */
+    long nanosUntilMidnight() {
+        ZonedDateTime now = ZonedDateTime.now(clock);
+        ZonedDateTime nextMidnight = LocalDate.now(clock).plusDays(1).atStartOfDay(clock.getZone());
+        return Math.max(0L, Duration.between(now, nextMidnight).toNanos());
+    }
+}
@@ -1,10 +1,15 @@
 package com.example.management_selection_admin_seek.config;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.Duration;
+
 /**
  * Password Configuration - Separate from SecurityConfig
  * 
@@ -17,13 +22,39 @@ public class PasswordConfig {
     /**
      * Configure password encoder (BCrypt)
      * 
-     * Uses BCrypt with strength 12 for production-level security.
-     * BCrypt is adaptive and becomes slower over time as computing power increases.
+     * BCrypt is adaptive and becomes slower over time as computing power increases, so its strength
+     * is chosen per host at startup (see BCryptCostCalibrator):
+     * - app.security.password-hashing.target-latency, the verification time to aim for
+     * - app.security.password-hashing.min-cost / max-cost, the allowed range; min-cost is the security floor
+     * - app.security.password-hashing.cost, a fixed strength that skips calibration when greater than 0
+     * Stored hashes weaker than the chosen strength are re-hashed on the next successful login
+     * (UserService.updatePassword).
+     * 
+     * Hashing runs on its own bounded pool (see BoundedPasswordEncoder):
+     * - app.security.password-hashing.threads, 0 = half the available processors so other endpoints keep CPU
+     * - app.security.password-hashing.queue-capacity, beyond which calls are answered 503 with Retry-After
      * 
-     * @return BCryptPasswordEncoder instance with strength 12
+     * @return BCryptPasswordEncoder with the calibrated strength, behind the bounded hashing pool
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder(12); // strength 12 for production security
+    public PasswordEncoder passwordEncoder(
+            MeterRegistry meterRegistry,
+            @Value("${app.security.password-hashing.cost:0}") int fixedCost,
+            @Value("${app.security.password-hashing.target-latency:PT0.25S}") Duration targetLatency,
+            @Value("${app.security.password-hashing.min-cost:12}") int minCost,
+            @Value("${app.security.password-hashing.max-cost:16}") int maxCost,
+            @Value("${app.security.password-hashing.threads:0}") int threads,
+            @Value("${app.security.password-hashing.queue-capacity:64}") int queueCapacity,
+            @Value("${app.security.password-hashing.retry-after:PT2S}") Duration retryAfter) {
+        int strength = fixedCost > 0
+                ? fixedCost
+                : new BCryptCostCalibrator().calibrate(targetLatency, minCost, maxCost);
+        Gauge.builder("password.hashing.cost", () -> strength)
+                .description("BCrypt cost used for new password hashes")
+                .register(meterRegistry);
+
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(strength),
+                poolSize, queueCapacity, retryAfter, meterRegistry);
     }
 }
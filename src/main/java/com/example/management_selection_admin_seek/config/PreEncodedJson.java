@@ -0,0 +1,18 @@
+package com.example.management_selection_admin_seek.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a controller method whose response body is usually a cached, never-mutated instance
+ * Its JSON (and gzip) encoding is kept alongside an ETag by PreEncodedJsonResponseAdvice
+ * and written as-is while the same instance keeps being returned
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface PreEncodedJson {
+}
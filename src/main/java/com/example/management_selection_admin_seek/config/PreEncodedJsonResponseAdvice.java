@@ -0,0 +1,176 @@
+package com.example.management_selection_admin_seek.config;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.lang.NonNull;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serves @PreEncodedJson responses from pre-serialized bytes
+ *
+ * Cached listings and metrics are returned as the same instance until the cache entry is replaced,
+ * yet every hit was re-serialized by Jackson and re-compressed by the server. This advice keeps the
+ * encoded body per instance (weak identity keys, so an entry lives exactly as long as the cached value
+ * it was built from) and writes it directly:
+ * - JSON bytes, written with the same ObjectMapper the message converter uses
+ * - gzip bytes, when compression is enabled and the body reaches server.compression.min-response-size;
+ *   sent with Content-Encoding: gzip so the container does not compress it again
+ * - a weak ETag derived from the JSON bytes, identical for both encodings, unless the handler
+ *   already set one (see ClientConditionalRequestInterceptor)
+ *
+ * Hit ratio and size are exported as cache_* metrics with cache="preencoded-responses"
+ */
+@ControllerAdvice
+@Slf4j
+public class PreEncodedJsonResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    static final String CACHE_NAME = "preencoded-responses";
+
+    private static final String GZIP = "gzip";
+
+    private final ObjectMapper objectMapper;
+    private final boolean gzipEnabled;
+    private final int gzipMinSize;
+    private final Cache<Object, EncodedBody> encodedBodies;
+
+    public PreEncodedJsonResponseAdvice(
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${server.compression.enabled:false}") boolean gzipEnabled,
+            @Value("${server.compression.min-response-size:2KB}") DataSize gzipMinSize,
+            @Value("${app.http.preencoded.max-entries:256}") long maxEntries) {
+        this.objectMapper = objectMapper;
+        this.gzipEnabled = gzipEnabled;
+        this.gzipMinSize = (int) gzipMinSize.toBytes();
+        this.encodedBodies = Caffeine.newBuilder()
+                .weakKeys()
+                .maximumSize(maxEntries)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, encodedBodies, CACHE_NAME);
+    }
+
+    @Override
+    public boolean supports(@NonNull MethodParameter returnType,
+                            @NonNull Class<? extends HttpMessageConverter<?>> converterType) {
+        return returnType.hasMethodAnnotation(PreEncodedJson.class)
+                && MappingJackson2HttpMessageConverter.class.isAssignableFrom(converterType);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body,
+                                  @NonNull MethodParameter returnType,
+                                  @NonNull MediaType selectedContentType,
+                                  @NonNull Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  @NonNull ServerHttpRequest request,
+                                  @NonNull ServerHttpResponse response) {
+        if (body == null || !MediaType.APPLICATION_JSON.isCompatibleWith(selectedContentType)) {
+            return body;
+        }
+        EncodedBody encoded = encodedBodies.get(body, this::encode);
+
+        HttpHeaders headers = response.getHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        if (headers.getETag() == null) {
+            headers.setETag(encoded.etag());
+        }
+
+        byte[] bytes = encoded.json();
+        if (encoded.gzip() != null) {
+            headers.add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            if (acceptsGzip(request)) {
+                headers.set(HttpHeaders.CONTENT_ENCODING, GZIP);
+                bytes = encoded.gzip();
+            }
+        }
+        headers.setContentLength(bytes.length);
+
+        try {
+            response.getBody().write(bytes);
+            response.flush();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        // Body already written: tell the message converter there is nothing left to write
+        return null;
+    }
+
+    /**
+     * Serialize a response body once, pre-compressing it when it is worth it
+     */
+    private EncodedBody encode(Object body) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(body);
+            byte[] gzip = gzipEnabled && json.length >= gzipMinSize ? gzip(json) : null;
+            String etag = "W/\"" + DigestUtils.md5DigestAsHex(json) + "\"";
+            log.debug("Pre-encoded {} response: {} bytes JSON, {} bytes gzip",
+                    body.getClass().getSimpleName(), json.length, gzip != null ? gzip.length : "-");
+            return new EncodedBody(json, gzip, etag);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not serialize " + body.getClass().getSimpleName(), ex);
+        }
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(json.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+            gzip.write(json);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return buffer.toByteArray();
+    }
+
+    private static boolean acceptsGzip(ServerHttpRequest request) {
+        return request.getHeaders().getOrEmpty(HttpHeaders.ACCEPT_ENCODING).stream()
+                .flatMap(value -> Arrays.stream(value.split(",")))
+                .map(coding -> coding.trim().split(";"))
+                .anyMatch(coding -> GZIP.equalsIgnoreCase(coding[0].trim()) && !isZeroQuality(coding));
+    }
+
+    private static boolean isZeroQuality(String[] coding) {
+        for (int i = 1; i < coding.length; i++) {
+            String parameter = coding[i].trim();
+            if (parameter.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(2)) == 0.0;
+                } catch (NumberFormatException ex) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Encoded representations of one response body
+     *
+     * @param json serialized body
+     * @param gzip gzip of json, or null when compression is disabled or the body is too small
+     * @param etag weak entity tag of json
+     */
+    record EncodedBody(byte[] json, byte[] gzip, String etag) {
+    }
+}
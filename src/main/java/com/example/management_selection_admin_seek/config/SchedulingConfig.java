@@ -0,0 +1,13 @@
+package com.example.management_selection_admin_seek.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Scheduling Configuration
+ * Enables @Scheduled tasks such as polling the client change log
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
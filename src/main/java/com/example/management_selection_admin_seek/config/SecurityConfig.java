@@ -102,6 +102,7 @@ public class SecurityConfig {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(userService);
         authProvider.setPasswordEncoder(passwordEncoder);
+        authProvider.setUserDetailsPasswordService(userService); // re-hash weaker stored passwords on login
         authProvider.setHideUserNotFoundExceptions(false); // For better error handling
         return authProvider;
     }
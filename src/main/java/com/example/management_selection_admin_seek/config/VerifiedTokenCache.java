@@ -0,0 +1,119 @@
+package com.example.management_selection_admin_seek.config;
+
+import com.example.management_selection_admin_seek.service.JwtClaims;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.function.Function;
+
+/**
+ * Cache of verified access tokens for JwtAuthenticationFilter
+ *
+ * Clients send the same access token on every request for its whole lifetime, and each request paid
+ * for the HMAC check and the JSON parsing again. Verified claims are kept under the SHA-256 digest of
+ * the token (the token itself is never stored), so a repeated token skips both:
+ * - only successfully verified tokens are cached; a failed verification is thrown to the caller
+ * - an entry expires at the token's exp claim, or after app.jwt.token-cache.max-ttl if sooner
+ * - the cache is bounded by app.jwt.token-cache.max-size
+ *
+ * Disabled with app.jwt.token-cache.enabled=false, in which case every token is verified.
+ * Hits and misses are exported as cache_* metrics with cache="jwt-verified-tokens"
+ */
+@Component
+public class VerifiedTokenCache {
+
+    static final String CACHE_NAME = "jwt-verified-tokens";
+
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    private final Cache<String, JwtClaims> verifiedTokens;
+
+    public VerifiedTokenCache(
+            MeterRegistry meterRegistry,
+            Clock clock,
+            @Value("${app.jwt.token-cache.enabled:true}") boolean enabled,
+            @Value("${app.jwt.token-cache.max-size:10000}") long maxSize,
+            @Value("${app.jwt.token-cache.max-ttl:PT15M}") Duration maxTimeToLive) {
+        if (!enabled) {
+            this.verifiedTokens = null;
+            return;
+        }
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new TokenExpiry(clock, maxTimeToLive))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, CACHE_NAME);
+    }
+
+    /**
+     * Return the claims of a token, verifying it only when it is not cached
+     *
+     * @param token raw JWT
+     * @param verifier verifies the token and returns its claims, throwing when it is invalid
+     * @return verified claims
+     */
+    public JwtClaims validate(String token, Function<String, JwtClaims> verifier) {
+        if (verifiedTokens == null || token == null || token.isEmpty()) {
+            return verifier.apply(token);
+        }
+        return verifiedTokens.get(digest(token), key -> verifier.apply(token));
+    }
+
+    long estimatedSize() {
+        return verifiedTokens == null ? 0 : verifiedTokens.estimatedSize();
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance(DIGEST_ALGORITHM).digest(token.getBytes(StandardCharsets.US_ASCII));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(DIGEST_ALGORITHM + " is not available", e);
+        }
+    }
+
+    /**
+     * Expire each token at its exp claim, capped at the maximum time to live
+     */
+    static final class TokenExpiry implements Expiry<String, JwtClaims> {
+
+        private final Clock clock;
+        private final long maxTimeToLiveNanos;
+
+        TokenExpiry(Clock clock, Duration maxTimeToLive) {
+            this.clock = clock;
+            this.maxTimeToLiveNanos = maxTimeToLive.toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(String key, JwtClaims claims, long currentTime) {
+            if (claims.expiresAt() == null) {
+                return maxTimeToLiveNanos;
+            }
+            long untilExpiration = Duration.between(clock.instant(), claims.expiresAt()).toNanos();
+            return Math.max(0L, Math.min(maxTimeToLiveNanos, untilExpiration));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, JwtClaims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, JwtClaims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
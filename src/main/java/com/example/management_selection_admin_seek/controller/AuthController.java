@@ -3,9 +3,9 @@ package com.example.management_selection_admin_seek.controller;
 import com.example.management_selection_admin_seek.api.AuthAPI;
 import com.example.management_selection_admin_seek.dto.auth.*;
 import com.example.management_selection_admin_seek.entity.User;
-import com.example.management_selection_admin_seek.exception.InvalidTokenException;
 import com.example.management_selection_admin_seek.mapper.AuthMapper;
 import com.example.management_selection_admin_seek.service.JwtService;
+import com.example.management_selection_admin_seek.service.RefreshTokenService;
 import com.example.management_selection_admin_seek.service.UserService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -15,7 +15,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.RestController;
 
 /**
@@ -46,6 +45,7 @@ public class AuthController implements AuthAPI {
     private final AuthenticationManager authenticationManager;
     private final UserService userService;
     private final JwtService jwtService;
+    private final RefreshTokenService refreshTokenService;
     private final AuthMapper authMapper;
 
     /**
@@ -76,7 +76,7 @@ public class AuthController implements AuthAPI {
         
         // Generate JWT tokens
         String accessToken = jwtService.generateToken(user);
-        String refreshToken = jwtService.generateRefreshToken(user);
+        String refreshToken = refreshTokenService.issue(user);
         
         // Build response using mapper (same pattern as other controllers)
         LoginResponse response = authMapper.toLoginResponse(
@@ -116,9 +116,9 @@ public class AuthController implements AuthAPI {
      * 
      * 
      * TOKEN ROTATION:
-     * - Old refresh token becomes invalid after successful refresh
+     * - Each refresh token is accepted once and replaced by the returned one (see RefreshTokenService)
+     * - Presenting an already used refresh token revokes every token descended from the same login
      * - New tokens have fresh expiration times from current moment
-     * - Prevents long-lived token vulnerabilities
      * 
      * @param request RefreshTokenRequest with current refresh token
      * @return LoginResponse with new JWT tokens, or 401 if refresh token invalid
@@ -129,31 +129,20 @@ public class AuthController implements AuthAPI {
     public ResponseEntity<LoginResponse> refreshToken(@Valid RefreshTokenRequest request) {
         log.debug("Token refresh attempt");
 
-        String refreshToken = request.getRefreshToken();
-        
-        // Extract username from refresh token
-        String username = jwtService.extractUsername(refreshToken);
-        
-        // Load user details
-        UserDetails userDetails = userService.loadUserByUsername(username);
-        
-        // Validate refresh token
-        if (!jwtService.isTokenValid(refreshToken, userDetails)) {
-            throw new InvalidTokenException("Refresh token is invalid or expired");
-        }
+        // Validate and rotate the refresh token
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(request.getRefreshToken());
 
-        // Generate new tokens
-        String newAccessToken = jwtService.generateToken(userDetails);
-        String newRefreshToken = jwtService.generateRefreshToken(userDetails);
+        // Generate new access token
+        String newAccessToken = jwtService.generateToken(rotation.user());
 
         // Build response using mapper (same pattern as other controllers)
         LoginResponse response = authMapper.toRefreshResponse(
                 newAccessToken, 
-                newRefreshToken, 
+                rotation.refreshToken(), 
                 jwtService.getJwtExpirationInSeconds()
         );
 
-        log.debug("Token refresh successful for: {}", username);
+        log.debug("Token refresh successful for: {}", rotation.user().getUsername());
         return ResponseEntity.ok(response);
     }
 }
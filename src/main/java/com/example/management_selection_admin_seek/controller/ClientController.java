@@ -1,21 +1,35 @@
 package com.example.management_selection_admin_seek.controller;
 
 import com.example.management_selection_admin_seek.api.ClientAPI;
+import com.example.management_selection_admin_seek.config.ClientDataVersioned;
+import com.example.management_selection_admin_seek.config.PreEncodedJson;
 import com.example.management_selection_admin_seek.dto.ClientCreateRequest;
 import com.example.management_selection_admin_seek.dto.ClientResponse;
 import com.example.management_selection_admin_seek.dto.ClientDetailResponse;
 import com.example.management_selection_admin_seek.dto.ClientMetricsResponse;
+import com.example.management_selection_admin_seek.dto.ClientAgeDistributionResponse;
+import com.example.management_selection_admin_seek.dto.ClientCursorPageResponse;
+import com.example.management_selection_admin_seek.dto.ClientCountResponse;
+import com.example.management_selection_admin_seek.enums.ClientCursorOrder;
+import com.example.management_selection_admin_seek.enums.ClientExportFormat;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import com.example.management_selection_admin_seek.service.ClientService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
 
 /**
  * REST Controller for client management
@@ -44,8 +58,11 @@ public class ClientController implements ClientAPI {
     /**
      * Get all clients endpoint with derived calculations (Paginated)
      * GET /api/client
+     * Cached pages are written from their pre-encoded JSON bytes
      */
     @Override
+    @PreEncodedJson
+    @ClientDataVersioned
     public ResponseEntity<Page<ClientDetailResponse>> getAllClients(Pageable pageable) {
         log.info("GET /api/client - Getting clients with pagination: page={}, size={}", 
                  pageable.getPageNumber(), pageable.getPageSize());
@@ -58,11 +75,76 @@ public class ClientController implements ClientAPI {
         return ResponseEntity.ok(clients);
     }
 
+    /**
+     * Get clients endpoint with derived calculations (Slice, no total count)
+     * GET /api/client/slice
+     */
+    @Override
+    @ClientDataVersioned
+    public ResponseEntity<Slice<ClientDetailResponse>> getClientsSlice(Pageable pageable) {
+        log.info("GET /api/client/slice - Getting client slice: page={}, size={}", 
+                 pageable.getPageNumber(), pageable.getPageSize());
+        
+        Slice<ClientDetailResponse> clients = clientService.getClientsSlice(pageable);
+        log.info("Retrieved {} clients (slice {}, has next: {})", 
+                 clients.getNumberOfElements(), clients.getNumber(), clients.hasNext());
+        return ResponseEntity.ok(clients);
+    }
+
+    /**
+     * Get client count endpoint
+     * GET /api/client/count
+     */
+    @Override
+    @ClientDataVersioned
+    public ResponseEntity<ClientCountResponse> getClientCount() {
+        log.info("GET /api/client/count - Getting client count");
+        
+        ClientCountResponse count = clientService.getClientCount();
+        return ResponseEntity.ok(count);
+    }
+
+    /**
+     * Export all clients endpoint (Streaming)
+     * GET /api/client/export
+     * The body is written on an async request thread after this method returns
+     */
+    @Override
+    public ResponseEntity<StreamingResponseBody> exportClients(ClientExportFormat format) {
+        log.info("GET /api/client/export - Exporting clients: format={}", format);
+        
+        StreamingResponseBody body = outputStream -> clientService.exportClients(format, outputStream);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getMediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("clients." + format.getFileExtension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
+    /**
+     * Get clients endpoint with keyset (seek) pagination
+     * GET /api/client/cursor
+     */
+    @Override
+    @ClientDataVersioned
+    public ResponseEntity<ClientCursorPageResponse> getClientsByCursor(String cursor, ClientCursorOrder order, int size) {
+        log.info("GET /api/client/cursor - Getting clients by cursor: order={}, size={}", order, size);
+        
+        ClientCursorPageResponse clients = clientService.getClientsByCursor(cursor, order, size);
+        log.info("Retrieved {} clients by cursor (has next: {})", clients.getContent().size(), clients.getHasNext());
+        return ResponseEntity.ok(clients);
+    }
+
     /**
      * Get client metrics endpoint
      * GET /api/client/metrics
+     * Cached metrics are written from their pre-encoded JSON bytes
      */
     @Override
+    @PreEncodedJson
+    @ClientDataVersioned
     public ResponseEntity<ClientMetricsResponse> getClientMetrics() {
         log.info("GET /api/client/metrics - Getting client metrics");
         
@@ -70,4 +152,18 @@ public class ClientController implements ClientAPI {
         log.info("Metrics retrieved successfully - Total clients: {}", metrics.getTotalClients());
         return ResponseEntity.ok(metrics);
     }
+
+    /**
+     * Get client age distribution endpoint
+     * GET /api/client/metrics/distribution
+     */
+    @Override
+    @ClientDataVersioned
+    public ResponseEntity<ClientAgeDistributionResponse> getAgeDistribution(int bucketWidth, List<Double> percentiles) {
+        log.info("GET /api/client/metrics/distribution - bucketWidth={}, percentiles={}", bucketWidth, percentiles);
+        
+        ClientAgeDistributionResponse distribution = clientService.getAgeDistribution(bucketWidth, percentiles);
+        log.info("Distribution retrieved successfully - Total clients: {}", distribution.getTotalClients());
+        return ResponseEntity.ok(distribution);
+    }
 }
@@ -0,0 +1,54 @@
+package com.example.management_selection_admin_seek.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DTO for client age distribution response
+ * Contains requested percentiles and a bucketed age histogram
+ */
+@Schema(description = "Response payload containing age percentiles and a bucketed age histogram of all clients")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ClientAgeDistributionResponse {
+
+    @Schema(description = "Total number of clients registered in the system", example = "7", accessMode = Schema.AccessMode.READ_ONLY)
+    private Long totalClients;
+
+    @Schema(description = "Width in years of each histogram bucket", example = "5", accessMode = Schema.AccessMode.READ_ONLY)
+    private Integer bucketWidth;
+
+    @Schema(description = "Requested age percentiles keyed by name (p10, p25, ...)", example = "{\"p10\":22.0,\"p90\":41.4}", accessMode = Schema.AccessMode.READ_ONLY)
+    private Map<String, Double> percentiles;
+
+    @Schema(description = "Age histogram buckets in ascending age order", accessMode = Schema.AccessMode.READ_ONLY)
+    private List<AgeBucket> histogram;
+
+    /**
+     * Inner class for a single histogram bucket
+     */
+    @Schema(description = "Inclusive age range and number of clients in it")
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class AgeBucket {
+
+        @Schema(description = "Lowest age included in the bucket", example = "25", accessMode = Schema.AccessMode.READ_ONLY)
+        private Integer fromAge;
+
+        @Schema(description = "Highest age included in the bucket", example = "29", accessMode = Schema.AccessMode.READ_ONLY)
+        private Integer toAge;
+
+        @Schema(description = "Number of clients in the bucket", example = "3", accessMode = Schema.AccessMode.READ_ONLY)
+        private Long count;
+    }
+}
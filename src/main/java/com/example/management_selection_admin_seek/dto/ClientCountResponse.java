@@ -0,0 +1,22 @@
+package com.example.management_selection_admin_seek.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * DTO for client count response
+ * Companion of the count-free slice listing for callers that need the total
+ */
+@Schema(description = "Response payload containing the total number of registered clients")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ClientCountResponse {
+
+    @Schema(description = "Total number of clients registered in the system", example = "50", accessMode = Schema.AccessMode.READ_ONLY)
+    private Long totalClients;
+}
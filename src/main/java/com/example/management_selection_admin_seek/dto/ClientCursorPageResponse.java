@@ -0,0 +1,35 @@
+package com.example.management_selection_admin_seek.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * DTO for cursor-based (keyset) client listing response
+ * Carries one page of clients with derived calculations and an opaque cursor for the next page.
+ * No total count is included, so no COUNT(*) query is ever issued.
+ */
+@Schema(description = "Response payload containing one page of clients from the cursor-based listing")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ClientCursorPageResponse {
+
+    @Schema(description = "Clients in this page with derived calculations", accessMode = Schema.AccessMode.READ_ONLY)
+    private List<ClientDetailResponse> content;
+
+    @Schema(description = "Requested page size", example = "20", accessMode = Schema.AccessMode.READ_ONLY)
+    private Integer size;
+
+    @Schema(description = "Whether more clients exist after this page", example = "true", accessMode = Schema.AccessMode.READ_ONLY)
+    private Boolean hasNext;
+
+    @Schema(description = "Opaque cursor to pass as 'cursor' to fetch the next page (absent on the last page)",
+            example = "djE6SURfQVNDOjIwOg", accessMode = Schema.AccessMode.READ_ONLY)
+    private String nextCursor;
+}
@@ -0,0 +1,34 @@
+package com.example.management_selection_admin_seek.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Client Change Log Entity
+ * One row per client created on any instance, polled by peers to keep their local caches coherent
+ */
+@Entity
+@Table(name = "client_change_log")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EqualsAndHashCode(of = "id")
+public class ClientChangeLog {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "client_id", nullable = false)
+    private Long clientId;
+
+    @Column(name = "origin_node", nullable = false, length = 64)
+    private String originNode;
+
+    /** Set by the publisher from the application Clock, the same time base pollers and the purge use */
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+}
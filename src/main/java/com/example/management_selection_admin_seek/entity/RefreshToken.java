@@ -0,0 +1,54 @@
+package com.example.management_selection_admin_seek.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Refresh Token Entity
+ * One row per issued refresh token, keyed by its jti claim
+ * Every rotation of a login shares the same family, so a reused token revokes the whole chain
+ */
+@Entity
+@Table(name = "refresh_tokens")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EqualsAndHashCode(of = "id")
+public class RefreshToken {
+
+    @Id
+    @Column(name = "id", length = 36)
+    private String id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "family_id", nullable = false, length = 36)
+    private String familyId;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    /** Expiration of the first token of the family, which rotation never extends */
+    @Column(name = "family_expires_at", nullable = false, updatable = false)
+    private LocalDateTime familyExpiresAt;
+
+    @Column(name = "revoked_at")
+    private LocalDateTime revokedAt;
+
+    @Column(name = "replaced_by", length = 36)
+    private String replacedBy;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * Whether the token was already rotated or revoked
+     */
+    public boolean isRevoked() {
+        return revokedAt != null;
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.management_selection_admin_seek.enums;
+
+/**
+ * Orderings supported by the cursor-based (keyset) client listing.
+ * Each one maps to an index so the next page is a range seek instead of an OFFSET scan.
+ */
+public enum ClientCursorOrder {
+    /**
+     * Ascending by primary key (oldest clients first)
+     */
+    ID_ASC,
+
+    /**
+     * Descending by primary key (newest clients first)
+     */
+    ID_DESC,
+
+    /**
+     * Ascending by birth date, ties broken by id (uses idx_clients_birth_date)
+     */
+    BIRTH_DATE_ASC,
+
+    /**
+     * Descending by birth date, ties broken by id (uses idx_clients_birth_date)
+     */
+    BIRTH_DATE_DESC;
+
+    /**
+     * Whether the cursor for this ordering needs the birth date of the last row
+     * @return true for birth date orderings
+     */
+    public boolean isByBirthDate() {
+        return this == BIRTH_DATE_ASC || this == BIRTH_DATE_DESC;
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.management_selection_admin_seek.enums;
+
+/**
+ * Output formats supported by the streaming client export.
+ */
+public enum ClientExportFormat {
+    /**
+     * Newline-delimited JSON, one client object per line
+     */
+    NDJSON("application/x-ndjson", "ndjson"),
+
+    /**
+     * Comma-separated values with a header row (RFC 4180 quoting)
+     */
+    CSV("text/csv", "csv");
+
+    private final String mediaType;
+    private final String fileExtension;
+
+    /**
+     * Constructor for ClientExportFormat enum
+     * @param mediaType the Content-Type of the exported body
+     * @param fileExtension the extension suggested in Content-Disposition
+     */
+    ClientExportFormat(String mediaType, String fileExtension) {
+        this.mediaType = mediaType;
+        this.fileExtension = fileExtension;
+    }
+
+    /**
+     * Gets the Content-Type for this format
+     * @return the media type (e.g., "text/csv")
+     */
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * Gets the file extension for this format
+     * @return the extension without the dot (e.g., "csv")
+     */
+    public String getFileExtension() {
+        return fileExtension;
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.management_selection_admin_seek.exception;
+
+import java.time.Duration;
+
+/**
+ * Exception thrown when a bounded resource rejects work because it is at capacity
+ * Maps to HTTP 503 Service Unavailable with a Retry-After header
+ */
+public class ServiceOverloadedException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public ServiceOverloadedException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
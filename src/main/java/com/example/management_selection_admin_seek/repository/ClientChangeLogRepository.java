@@ -0,0 +1,36 @@
+package com.example.management_selection_admin_seek.repository;
+
+import com.example.management_selection_admin_seek.entity.ClientChangeLog;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository interface for the client change log
+ * Read by DbPolledClientInvalidationBus on every instance
+ */
+@Repository
+public interface ClientChangeLogRepository extends JpaRepository<ClientChangeLog, Long> {
+
+    /**
+     * Changes logged since the given time, after the given id, oldest id first
+     * Range scan on idx_client_change_log_created_at; the id bound pages through a large window
+     */
+    List<ClientChangeLog> findByCreatedAtGreaterThanEqualAndIdGreaterThanOrderByIdAsc(
+            LocalDateTime since, Long afterId, Pageable limit);
+
+    /**
+     * Delete changes logged before the cutoff
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM ClientChangeLog c WHERE c.createdAt < :cutoff")
+    int deleteOlderThan(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -1,11 +1,23 @@
 package com.example.management_selection_admin_seek.repository;
 
 import com.example.management_selection_admin_seek.entity.Client;
+import com.example.management_selection_admin_seek.repository.projection.AgeFrequency;
+import com.example.management_selection_admin_seek.repository.projection.ClientAgeAggregate;
+import com.example.management_selection_admin_seek.repository.projection.ClientDataMarker;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Repository for Client entity
@@ -24,26 +36,99 @@ public interface ClientRepository extends JpaRepository<Client, Long> {
     // Custom queries for metrics calculation
     
     /**
-     * Calculate average age of all clients
+     * Count clients per age (one row per distinct age)
+     * Used to build the in-memory age histogram without loading every row
      */
-    @Query("SELECT AVG(c.age) FROM Client c")
-    Double findAverageAge();
+    @Query("SELECT new com.example.management_selection_admin_seek.repository.projection.AgeFrequency(c.age, COUNT(c)) " +
+           "FROM Client c GROUP BY c.age ORDER BY c.age")
+    List<AgeFrequency> findAgeFrequencies();
     
     /**
-     * Get all ages for statistical calculations
+     * Get the per-age frequency table in a single round trip (one grouped statement, at most 103 rows)
+     * Count, mean, deviation, min, max and percentiles are all derived from it by AgeStatistics
      */
-    @Query("SELECT c.age FROM Client c ORDER BY c.age")
-    List<Integer> findAllAges();
+    default ClientAgeAggregate findAgeAggregate() {
+        return ClientAgeAggregate.from(findAgeFrequencies());
+    }
     
     /**
-     * Find minimum age
+     * Ids among the given ones that exist (primary key lookups)
+     * Tells the age histogram which clients recorded during its initial load were already counted
      */
-    @Query("SELECT MIN(c.age) FROM Client c")
-    Integer findMinAge();
+    @Query("SELECT c.id FROM Client c WHERE c.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
     
     /**
-     * Find maximum age
+     * Get the latest update date and row count of the clients table in one statement
+     * Seeds the in-memory data version used for conditional GET validators
      */
-    @Query("SELECT MAX(c.age) FROM Client c")
-    Integer findMaxAge();
+    @Query("SELECT new com.example.management_selection_admin_seek.repository.projection.ClientDataMarker(MAX(c.updateDate), COUNT(c)) " +
+           "FROM Client c")
+    ClientDataMarker findDataMarker();
+    
+    /**
+     * Page through clients without a count query
+     * Spring Data fetches one extra row to determine whether a next slice exists
+     */
+    Slice<Client> findAllBy(Pageable pageable);
+    
+    /**
+     * Stream every client in primary key order for bulk export
+     * Rows are pulled from the driver in chunks of the fetch size instead of being materialized as a list
+     * (MySQL Connector/J honours the fetch size with useCursorFetch=true).
+     * Must be consumed inside a transaction and closed by the caller
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT c FROM Client c ORDER BY c.id")
+    Stream<Client> streamAllForExport();
+    
+    // Keyset (seek) pagination queries
+    // Return List so Spring Data never issues a count query; the Pageable only carries the row limit
+    
+    /**
+     * Next clients after the given id, ascending by id
+     */
+    @Query("SELECT c FROM Client c WHERE c.id > :lastId ORDER BY c.id ASC")
+    List<Client> findNextByIdAsc(@Param("lastId") long lastId, Pageable limit);
+    
+    /**
+     * Next clients before the given id, descending by id
+     */
+    @Query("SELECT c FROM Client c WHERE c.id < :lastId ORDER BY c.id DESC")
+    List<Client> findNextByIdDesc(@Param("lastId") long lastId, Pageable limit);
+    
+    /**
+     * First clients ascending by (birth date, id)
+     */
+    List<Client> findByOrderByBirthDateAscIdAsc(Pageable limit);
+    
+    /**
+     * First clients descending by (birth date, id)
+     */
+    List<Client> findByOrderByBirthDateDescIdDesc(Pageable limit);
+    
+    /**
+     * Next clients after (birth date, id), ascending
+     * Served by idx_clients_birth_date, which implicitly ends with the primary key in InnoDB
+     */
+    @Query("SELECT c FROM Client c " +
+           "WHERE c.birthDate > :lastBirthDate OR (c.birthDate = :lastBirthDate AND c.id > :lastId) " +
+           "ORDER BY c.birthDate ASC, c.id ASC")
+    List<Client> findNextByBirthDateAsc(@Param("lastBirthDate") LocalDate lastBirthDate,
+                                        @Param("lastId") long lastId,
+                                        Pageable limit);
+    
+    /**
+     * Next clients before (birth date, id), descending
+     * Served by idx_clients_birth_date, which implicitly ends with the primary key in InnoDB
+     */
+    @Query("SELECT c FROM Client c " +
+           "WHERE c.birthDate < :lastBirthDate OR (c.birthDate = :lastBirthDate AND c.id < :lastId) " +
+           "ORDER BY c.birthDate DESC, c.id DESC")
+    List<Client> findNextByBirthDateDesc(@Param("lastBirthDate") LocalDate lastBirthDate,
+                                         @Param("lastId") long lastId,
+                                         Pageable limit);
 }
@@ -0,0 +1,80 @@
+package com.example.management_selection_admin_seek.repository;
+
+import com.example.management_selection_admin_seek.entity.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository interface for issued refresh tokens
+ * Used by RefreshTokenService
+ */
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, String> {
+
+    /**
+     * Insert the first token of a family, whose expiration is also the family's
+     * A plain INSERT: save() on an assigned id would SELECT the row first to decide between insert and merge
+     */
+    @Modifying
+    @Query(value = "INSERT INTO refresh_tokens (id, user_id, family_id, expires_at, family_expires_at, created_at) " +
+                   "VALUES (:id, :userId, :familyId, :expiresAt, :expiresAt, :now)", nativeQuery = true)
+    int insert(@Param("id") String id, @Param("userId") Long userId, @Param("familyId") String familyId,
+               @Param("expiresAt") LocalDateTime expiresAt, @Param("now") LocalDateTime now);
+
+    /**
+     * Insert the token replacing a rotated one, in the same family and for the same user
+     * Copies both from the rotated row inside the INSERT, so rotation never reads the row back; the
+     * expiration is capped at the family's, so rotating never extends a login
+     */
+    @Modifying
+    @Query(value = "INSERT INTO refresh_tokens (id, user_id, family_id, expires_at, family_expires_at, created_at) " +
+                   "SELECT :id, t.user_id, t.family_id, LEAST(:expiresAt, t.family_expires_at), " +
+                   "t.family_expires_at, :now FROM refresh_tokens t " +
+                   "WHERE t.id = :rotatedId", nativeQuery = true)
+    int insertReplacement(@Param("id") String id, @Param("rotatedId") String rotatedId,
+                          @Param("expiresAt") LocalDateTime expiresAt, @Param("now") LocalDateTime now);
+
+    /**
+     * Mark a usable token as replaced (primary key update)
+     * Returns 0 when the token is unknown, expired or already rotated, so concurrent refreshes with the
+     * same token cannot both succeed
+     */
+    @Modifying
+    @Query("UPDATE RefreshToken t SET t.revokedAt = :now, t.replacedBy = :replacedBy " +
+           "WHERE t.id = :id AND t.revokedAt IS NULL AND t.expiresAt > :now")
+    int markRotated(@Param("id") String id, @Param("replacedBy") String replacedBy, @Param("now") LocalDateTime now);
+
+    /**
+     * Revoke every usable token of a family
+     */
+    @Modifying
+    @Query("UPDATE RefreshToken t SET t.revokedAt = :now WHERE t.familyId = :familyId AND t.revokedAt IS NULL")
+    int revokeFamily(@Param("familyId") String familyId, @Param("now") LocalDateTime now);
+
+    /**
+     * Ids of all tokens of a family
+     */
+    @Query("SELECT t.id FROM RefreshToken t WHERE t.familyId = :familyId")
+    List<String> findIdsByFamilyId(@Param("familyId") String familyId);
+
+    /**
+     * Ids of revoked tokens that have not expired yet, the ones a client could still present
+     */
+    @Query("SELECT t.id FROM RefreshToken t WHERE t.expiresAt > :now AND t.revokedAt IS NOT NULL")
+    List<String> findRevokedIdsNotExpired(@Param("now") LocalDateTime now);
+
+    /**
+     * Delete tokens expired before the cutoff
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM RefreshToken t WHERE t.expiresAt < :cutoff")
+    int deleteExpiredBefore(@Param("cutoff") LocalDateTime cutoff);
+}
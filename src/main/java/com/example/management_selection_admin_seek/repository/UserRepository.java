@@ -3,9 +3,9 @@ package com.example.management_selection_admin_seek.repository;
 import com.example.management_selection_admin_seek.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -16,18 +16,18 @@ import java.util.Optional;
 public interface UserRepository extends JpaRepository<User, Long> {
 
     /**
-     * Find user by username or email for flexible login
+     * Find user by exact username (single probe on the username unique index)
      */
-    @Query("SELECT u FROM User u WHERE u.username = :identifier OR u.email = :identifier")
-    Optional<User> findByUsernameOrEmail(@Param("identifier") String identifier);
+    Optional<User> findByUsername(String username);
 
     /**
-     * Check if username exists (for registration validation)
+     * Find user by exact email (single probe on the email unique index)
      */
-    boolean existsByUsername(String username);
+    Optional<User> findByEmail(String email);
 
     /**
-     * Check if email exists (for registration validation)
+     * Ids of disabled users, whose tokens are rejected (see UserRevocationRegistry)
      */
-    boolean existsByEmail(String email);
+    @Query("SELECT u.id FROM User u WHERE u.enabled = false")
+    List<Long> findDisabledUserIds();
 }
@@ -0,0 +1,8 @@
+package com.example.management_selection_admin_seek.repository.projection;
+
+/**
+ * Projection for the clients-per-age frequency table
+ * One row per distinct age returned by a GROUP BY on clients.age
+ */
+public record AgeFrequency(Integer age, Long total) {
+}
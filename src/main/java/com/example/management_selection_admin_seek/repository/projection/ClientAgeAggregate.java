@@ -0,0 +1,18 @@
+package com.example.management_selection_admin_seek.repository.projection;
+
+import java.util.List;
+
+/**
+ * Projection with the per-age frequency table needed for client metrics
+ * Returned by a single grouped statement; AgeStatistics derives count, sum, sum of squares,
+ * min and max from it, so none of them needs its own round trip
+ */
+public record ClientAgeAggregate(List<AgeFrequency> frequencies) {
+
+    /**
+     * Build the aggregate from the per-age frequency rows
+     */
+    public static ClientAgeAggregate from(List<AgeFrequency> frequencies) {
+        return new ClientAgeAggregate(List.copyOf(frequencies));
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.management_selection_admin_seek.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection for the cheap change marker of the clients table
+ * Latest update_date and row count, read with a single aggregate statement
+ */
+public record ClientDataMarker(LocalDateTime lastUpdate, Long count) {
+}
@@ -0,0 +1,199 @@
+package com.example.management_selection_admin_seek.service;
+
+import com.example.management_selection_admin_seek.repository.projection.AgeFrequency;
+import com.example.management_selection_admin_seek.repository.projection.ClientAgeAggregate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Immutable snapshot of the client age distribution
+ * Backed by a counts-per-age table bounded by the chk_age_valid constraint (18..120),
+ * so every statistic is computed in constant time regardless of the number of clients
+ */
+public final class AgeStatistics {
+
+    public static final int MIN_AGE = 18;
+    public static final int MAX_AGE = 120;
+    public static final int AGE_SLOTS = MAX_AGE - MIN_AGE + 1;
+
+    private final long[] counts;
+    private final long total;
+    private final long sum;
+    private final long sumOfSquares;
+
+    /**
+     * @param counts clients per age, where counts[i] holds the clients aged MIN_AGE + i
+     */
+    public AgeStatistics(long[] counts) {
+        if (counts.length != AGE_SLOTS) {
+            throw new IllegalArgumentException("Age table must have " + AGE_SLOTS + " slots");
+        }
+        this.counts = counts.clone();
+
+        long totalAcc = 0;
+        long sumAcc = 0;
+        long sumOfSquaresAcc = 0;
+        for (int i = 0; i < AGE_SLOTS; i++) {
+            long age = MIN_AGE + i;
+            totalAcc += counts[i];
+            sumAcc += counts[i] * age;
+            sumOfSquaresAcc += counts[i] * age * age;
+        }
+        this.total = totalAcc;
+        this.sum = sumAcc;
+        this.sumOfSquares = sumOfSquaresAcc;
+    }
+
+    /**
+     * Build statistics from the single-query aggregate projection
+     */
+    public static AgeStatistics from(ClientAgeAggregate aggregate) {
+        return new AgeStatistics(toCounts(aggregate.frequencies()));
+    }
+
+    /**
+     * Convert frequency rows into a counts-per-age table, skipping ages outside the tracked range
+     */
+    static long[] toCounts(List<AgeFrequency> frequencies) {
+        long[] counts = new long[AGE_SLOTS];
+        for (AgeFrequency frequency : frequencies) {
+            if (isTrackedAge(frequency.age())) {
+                counts[frequency.age() - MIN_AGE] += frequency.total();
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Check whether an age fits in the table
+     */
+    public static boolean isTrackedAge(int age) {
+        return age >= MIN_AGE && age <= MAX_AGE;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public long getCount(int age) {
+        return isTrackedAge(age) ? counts[age - MIN_AGE] : 0;
+    }
+
+    public boolean isEmpty() {
+        return total == 0;
+    }
+
+    /**
+     * Arithmetic mean of ages, 0 when empty
+     */
+    public double getMean() {
+        return isEmpty() ? 0.0 : (double) sum / total;
+    }
+
+    /**
+     * Population standard deviation of ages, 0 for fewer than two clients
+     */
+    public double getStandardDeviation() {
+        if (total <= 1) {
+            return 0.0;
+        }
+        double mean = getMean();
+        double variance = (double) sumOfSquares / total - mean * mean;
+        return Math.sqrt(Math.max(0.0, variance));
+    }
+
+    /**
+     * Minimum age, null when empty
+     */
+    public Integer getMin() {
+        for (int i = 0; i < AGE_SLOTS; i++) {
+            if (counts[i] > 0) {
+                return MIN_AGE + i;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Maximum age, null when empty
+     */
+    public Integer getMax() {
+        for (int i = AGE_SLOTS - 1; i >= 0; i--) {
+            if (counts[i] > 0) {
+                return MIN_AGE + i;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Median age (average of the two middle values for an even count), 0 when empty
+     */
+    public double getMedian() {
+        return getPercentile(50.0);
+    }
+
+    /**
+     * Percentile of ages using linear interpolation between closest ranks, 0 when empty
+     *
+     * @param percentile value between 0 and 100
+     */
+    public double getPercentile(double percentile) {
+        if (!Double.isFinite(percentile) || percentile < 0.0 || percentile > 100.0) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100: " + percentile);
+        }
+        if (isEmpty()) {
+            return 0.0;
+        }
+        double rank = percentile / 100.0 * (total - 1);
+        long lowerRank = (long) Math.floor(rank);
+        long upperRank = (long) Math.ceil(rank);
+        int lower = ageAtRank(lowerRank);
+        if (lowerRank == upperRank) {
+            return lower;
+        }
+        int upper = ageAtRank(upperRank);
+        return lower + (upper - lower) * (rank - lowerRank);
+    }
+
+    /**
+     * Group the distribution into consecutive buckets of the given width, starting at MIN_AGE
+     * The last bucket is truncated at MAX_AGE
+     */
+    public List<Bucket> getBuckets(int width) {
+        if (width < 1 || width > AGE_SLOTS) {
+            throw new IllegalArgumentException("Bucket width must be between 1 and " + AGE_SLOTS + ": " + width);
+        }
+        List<Bucket> buckets = new ArrayList<>((AGE_SLOTS + width - 1) / width);
+        for (int start = 0; start < AGE_SLOTS; start += width) {
+            int end = Math.min(start + width, AGE_SLOTS);
+            long count = 0;
+            for (int i = start; i < end; i++) {
+                count += counts[i];
+            }
+            buckets.add(new Bucket(MIN_AGE + start, MIN_AGE + end - 1, count));
+        }
+        return buckets;
+    }
+
+    /**
+     * Age of the client at the given zero-based rank in ascending age order
+     */
+    private int ageAtRank(long rank) {
+        long seen = 0;
+        for (int i = 0; i < AGE_SLOTS; i++) {
+            seen += counts[i];
+            if (seen > rank) {
+                return MIN_AGE + i;
+            }
+        }
+        throw new IllegalArgumentException("Rank " + rank + " is out of range for " + total + " clients");
+    }
+
+    /**
+     * Inclusive age range with the number of clients in it
+     */
+    public record Bucket(int fromAge, int toAge, long count) {
+    }
+}
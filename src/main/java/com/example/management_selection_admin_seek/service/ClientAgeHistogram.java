@@ -0,0 +1,130 @@
+package com.example.management_selection_admin_seek.service;
+
+import com.example.management_selection_admin_seek.entity.Client;
+import com.example.management_selection_admin_seek.repository.ClientRepository;
+import com.example.management_selection_admin_seek.repository.projection.ClientAgeAggregate;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * In-memory histogram of client ages
+ *
+ * Built once at startup from the single-statement age aggregate and kept current by ClientService
+ * whenever a client is created, so metrics can be answered without touching the database.
+ * Ages are bounded to 18..120 by chk_age_valid, so the table is a fixed array of counters.
+ *
+ * Clients committed while the initial load runs are buffered and applied on top of it, unless the
+ * load already counted them (checked by id in the same read snapshot).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ClientAgeHistogram {
+
+    private final ClientRepository clientRepository;
+
+    private final long[] counts = new long[AgeStatistics.AGE_SLOTS];
+    private volatile long total;
+    private volatile boolean initialized;
+
+    /** Clients recorded while loading (id to age), null when not loading */
+    private Map<Long, Integer> recordedWhileLoading;
+
+    /**
+     * Load the histogram from the database once the application is ready
+     * Runs in one repeatable-read transaction, so the aggregate and the id check see the same snapshot
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public void initialize() {
+        synchronized (counts) {
+            recordedWhileLoading = new HashMap<>();
+        }
+
+        ClientAgeAggregate aggregate = clientRepository.findAgeAggregate();
+        long[] loaded = AgeStatistics.toCounts(aggregate.frequencies());
+
+        int applied;
+        synchronized (counts) {
+            Map<Long, Integer> buffered = recordedWhileLoading;
+            Set<Long> alreadyLoaded = buffered.isEmpty()
+                    ? Set.of()
+                    : Set.copyOf(clientRepository.findExistingIds(buffered.keySet()));
+            applied = 0;
+            for (Map.Entry<Long, Integer> recorded : buffered.entrySet()) {
+                if (!alreadyLoaded.contains(recorded.getKey())) {
+                    loaded[recorded.getValue() - AgeStatistics.MIN_AGE]++;
+                    applied++;
+                }
+            }
+
+            System.arraycopy(loaded, 0, counts, 0, loaded.length);
+            total = sum(loaded);
+            recordedWhileLoading = null;
+            initialized = true;
+        }
+        log.info("Client age histogram initialized with {} clients across {} distinct ages ({} recorded while loading)",
+                total, aggregate.frequencies().size(), applied);
+    }
+
+    /**
+     * Whether the histogram has been loaded and can serve metrics
+     */
+    public boolean isInitialized() {
+        return initialized;
+    }
+
+    /**
+     * Record a newly committed client
+     * Buffered while the initial load runs; dropped only before loading starts, since the load will read it
+     */
+    public void record(Client client) {
+        int age = client.getAge();
+        if (!AgeStatistics.isTrackedAge(age)) {
+            log.warn("Age {} is outside the histogram range, skipping", age);
+            return;
+        }
+        synchronized (counts) {
+            if (initialized) {
+                counts[age - AgeStatistics.MIN_AGE]++;
+                total++;
+            } else if (recordedWhileLoading != null) {
+                recordedWhileLoading.put(client.getId(), age);
+            }
+        }
+    }
+
+    /**
+     * Current number of clients, maintained alongside the histogram
+     * Only meaningful once initialized; reads without copying the table
+     */
+    public long getTotal() {
+        return total;
+    }
+
+    private static long sum(long[] values) {
+        long sum = 0;
+        for (long value : values) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    /**
+     * Take an immutable snapshot of the current distribution
+     */
+    public AgeStatistics snapshot() {
+        synchronized (counts) {
+            return new AgeStatistics(counts);
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.example.management_selection_admin_seek.service;
+
+import com.example.management_selection_admin_seek.config.CacheConfig;
+import com.example.management_selection_admin_seek.config.CoalescingCaffeineCache;
+import com.example.management_selection_admin_seek.dto.ClientDetailResponse;
+import com.example.management_selection_admin_seek.entity.Client;
+import com.example.management_selection_admin_seek.mapper.ClientMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Write-aware invalidation of the client caches
+ * 
+ * Replaces allEntries eviction on client creation so a steady trickle of inserts does not empty the caches:
+ * - client-metrics: the statistics entry is evicted, and the next read rebuilds it from the in-memory age
+ *   histogram without a query. Replacing it in place let concurrent inserts race, with an older
+ *   snapshot overwriting a newer one
+ * - clients: a cached page or slice is kept only when the new row cannot appear in it, i.e. the page is
+ *   full and the new row sorts strictly after its last element; pages are rebuilt with the new total
+ *   (slices with hasNext). Every other page, and the unordered 'all-clients' list, is evicted
+ * 
+ * Only numeric and date sort properties are compared in memory; string ordering depends on the database
+ * collation, so pages sorted by name are always evicted. Unsorted pages are read in primary key order
+ * (InnoDB clustered index), so with ascending ids only the last page is evicted, while with id descending
+ * every offset page shifts by one row and is evicted.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ClientCacheInvalidator {
+
+    static final String ALL_CLIENTS_KEY = "all-clients";
+    static final String STATISTICS_KEY = "statistics";
+
+    private static final Sort DEFAULT_SORT = Sort.by(Sort.Direction.ASC, "id");
+
+    private static final Map<String, Function<ClientDetailResponse, Comparable<?>>> COMPARABLE_SORT_PROPERTIES = Map.of(
+            "id", ClientDetailResponse::getId,
+            "age", ClientDetailResponse::getAge,
+            "birthDate", ClientDetailResponse::getBirthDate,
+            "creationDate", ClientDetailResponse::getCreationDate,
+            "updateDate", ClientDetailResponse::getUpdateDate);
+
+    private final CacheManager cacheManager;
+    private final ClientMapper clientMapper;
+
+    /**
+     * Update the client caches after a client has been committed
+     * 
+     * @param client the persisted client
+     */
+    public void onClientCreated(Client client) {
+        evictMetrics();
+        invalidateListings(clientMapper.toDetailResponse(client));
+    }
+
+    /**
+     * Drop every cached listing and the metrics
+     * Used when a change cannot be applied in place
+     */
+    public void evictAll() {
+        for (String name : List.of(CacheConfig.CLIENTS_CACHE, CacheConfig.CLIENT_METRICS_CACHE)) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+        log.debug("Client caches cleared");
+    }
+
+    private void evictMetrics() {
+        Cache cache = cacheManager.getCache(CacheConfig.CLIENT_METRICS_CACHE);
+        if (cache != null) {
+            cache.evict(STATISTICS_KEY);
+        }
+    }
+
+    private void invalidateListings(ClientDetailResponse created) {
+        Cache cache = cacheManager.getCache(CacheConfig.CLIENTS_CACHE);
+        if (cache instanceof CoalescingCaffeineCache listings) {
+            listings.updateEntries((key, value) -> adjust(key, value, created));
+        } else if (cache != null) {
+            cache.clear();
+        }
+        log.debug("Client listings invalidated for client {}", created.getId());
+    }
+
+    /**
+     * New value for a cached listing, or null to evict it
+     */
+    private Object adjust(Object key, Object value, ClientDetailResponse created) {
+        if (ALL_CLIENTS_KEY.equals(key)) {
+            return null;
+        }
+        if (value instanceof Page<?> page) {
+            return isUnaffected(page, created)
+                    ? new PageImpl<>(page.getContent(), page.getPageable(), page.getTotalElements() + 1)
+                    : null;
+        }
+        if (value instanceof Slice<?> slice) {
+            return isUnaffected(slice, created)
+                    ? new SliceImpl<>(slice.getContent(), slice.getPageable(), true)
+                    : null;
+        }
+        return null;
+    }
+
+    /**
+     * Whether inserting the new row leaves the slice content unchanged
+     * True only for a full slice whose last element sorts strictly before the new row
+     */
+    private boolean isUnaffected(Slice<?> slice, ClientDetailResponse created) {
+        Pageable pageable = slice.getPageable();
+        if (pageable.isUnpaged() || slice.getNumberOfElements() < pageable.getPageSize()) {
+            return false;
+        }
+        if (!(slice.getContent().get(slice.getNumberOfElements() - 1) instanceof ClientDetailResponse last)) {
+            return false;
+        }
+        Sort sort = pageable.getSort().isSorted() ? pageable.getSort() : DEFAULT_SORT;
+        return sortsStrictlyAfter(created, last, sort);
+    }
+
+    /**
+     * Compare two rows by the given sort, conservatively returning false whenever the
+     * database order cannot be predicted (string or unknown properties, nulls, full ties)
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private boolean sortsStrictlyAfter(ClientDetailResponse candidate, ClientDetailResponse last, Sort sort) {
+        for (Sort.Order order : sort) {
+            Function<ClientDetailResponse, Comparable<?>> property = COMPARABLE_SORT_PROPERTIES.get(order.getProperty());
+            if (property == null) {
+                return false;
+            }
+            Comparable candidateValue = property.apply(candidate);
+            Comparable lastValue = property.apply(last);
+            if (candidateValue == null || lastValue == null) {
+                return false;
+            }
+            int comparison = candidateValue.compareTo(lastValue);
+            if (comparison != 0) {
+                return order.isAscending() ? comparison > 0 : comparison < 0;
+            }
+        }
+        return false;
+    }
+}
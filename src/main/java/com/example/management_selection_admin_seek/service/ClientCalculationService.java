@@ -1,15 +1,25 @@
 package com.example.management_selection_admin_seek.service;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.time.Clock;
 import java.time.LocalDate;
 import java.time.Period;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Service for client-related calculations and business logic
  * Handles life expectancy, retirement dates, and other derived calculations
  * Separated from mapping logic following Single Responsibility Principle
+ * 
+ * PERFORMANCE: All derived values depend only on (birth date, today), so they are computed
+ * together in one pass and memoized by birth date for the current day. Ages are bounded to
+ * 18..120, which keeps the memo at a few tens of thousands of entries; it is dropped when the day changes.
  */
 @Service
 @Slf4j
@@ -20,62 +30,154 @@ public class ClientCalculationService {
     private static final int AVERAGE_LIFE_EXPECTANCY = 78;
     private static final int EXTENDED_LIFE_YEARS = 5;
 
+    // ~103 years of distinct birth dates, with headroom
+    private static final int MAX_MEMOIZED_BIRTH_DATES = 50_000;
+
+    private final Clock clock;
+    private volatile DailyMemo memo = new DailyMemo(LocalDate.MIN);
+
+    public ClientCalculationService() {
+        this(Clock.systemDefaultZone());
+    }
+
+    /**
+     * @param clock business clock (app.clients.time-zone), shared with the midnight expiry of cached client details
+     */
+    @Autowired
+    public ClientCalculationService(Clock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Snapshot of the current date
+     * Take it once per request and pass it to calculateDerivedFields so every row uses the same day
+     */
+    public LocalDate today() {
+        return LocalDate.now(clock);
+    }
+
+    /**
+     * Calculate all derived values for a batch of birth dates against a single "today" snapshot
+     * 
+     * @return derived values keyed by birth date (duplicates are computed once)
+     */
+    public Map<LocalDate, ClientDerivedFields> calculateDerivedFields(Collection<LocalDate> birthDates) {
+        LocalDate today = today();
+        Map<LocalDate, ClientDerivedFields> derived = new HashMap<>();
+        for (LocalDate birthDate : birthDates) {
+            derived.computeIfAbsent(birthDate, date -> calculateDerivedFields(date, today));
+        }
+        return derived;
+    }
+
+    /**
+     * Calculate all derived values for one birth date, memoized for the given day
+     */
+    public ClientDerivedFields calculateDerivedFields(LocalDate birthDate, LocalDate today) {
+        DailyMemo current = memoFor(today);
+        if (current == null) {
+            return computeDerivedFields(birthDate, today);
+        }
+        ClientDerivedFields cached = current.values().get(birthDate);
+        if (cached != null) {
+            return cached;
+        }
+        ClientDerivedFields computed = computeDerivedFields(birthDate, today);
+        if (current.values().size() < MAX_MEMOIZED_BIRTH_DATES) {
+            current.values().putIfAbsent(birthDate, computed);
+        }
+        return computed;
+    }
+
     /**
      * Calculate current age based on birth date
      */
     public int calculateCurrentAge(LocalDate birthDate) {
-        return Period.between(birthDate, LocalDate.now()).getYears();
+        return Period.between(birthDate, today()).getYears();
     }
 
     /**
      * Calculate estimated retirement date (65 years old)
      */
     public LocalDate calculateRetirementDate(LocalDate birthDate) {
-        int currentAge = calculateCurrentAge(birthDate);
-        
-        if (currentAge >= RETIREMENT_AGE) {
-            log.debug("Client already reached retirement age");
-            return LocalDate.now(); // Already retired
-        }
-        
-        int yearsToRetirement = RETIREMENT_AGE - currentAge;
-        LocalDate retirementDate = LocalDate.now().plusYears(yearsToRetirement);
-        
-        log.debug("Calculated retirement date: {} (in {} years)", retirementDate, yearsToRetirement);
-        return retirementDate;
+        return calculateDerivedFields(birthDate, today()).estimatedRetirementDate();
     }
 
     /**
      * Calculate estimated life expectancy date (78 years average)
      */
     public LocalDate calculateLifeExpectancy(LocalDate birthDate) {
-        int currentAge = calculateCurrentAge(birthDate);
-        
-        if (currentAge >= AVERAGE_LIFE_EXPECTANCY) {
-            log.debug("Client exceeded average life expectancy, adding {} years", EXTENDED_LIFE_YEARS);
-            return LocalDate.now().plusYears(EXTENDED_LIFE_YEARS);
-        }
-        
-        int remainingYears = AVERAGE_LIFE_EXPECTANCY - currentAge;
-        LocalDate lifeExpectancyDate = LocalDate.now().plusYears(remainingYears);
-        
-        log.debug("Calculated life expectancy: {} (in {} years)", lifeExpectancyDate, remainingYears);
-        return lifeExpectancyDate;
+        return calculateDerivedFields(birthDate, today()).estimatedLifeExpectancy();
     }
 
     /**
      * Calculate years to retirement
      */
     public int calculateYearsToRetirement(LocalDate birthDate) {
-        int currentAge = calculateCurrentAge(birthDate);
-        return Math.max(0, RETIREMENT_AGE - currentAge);
+        return calculateDerivedFields(birthDate, today()).yearsToRetirement();
     }
 
     /**
      * Calculate estimated remaining years of life
      */
     public int calculateRemainingYears(LocalDate birthDate) {
-        int currentAge = calculateCurrentAge(birthDate);
-        return Math.max(0, AVERAGE_LIFE_EXPECTANCY - currentAge);
+        return calculateDerivedFields(birthDate, today()).estimatedRemainingYears();
+    }
+
+    /**
+     * Compute every derived value from a single age calculation
+     */
+    private ClientDerivedFields computeDerivedFields(LocalDate birthDate, LocalDate today) {
+        int currentAge = Period.between(birthDate, today).getYears();
+        
+        LocalDate retirementDate;
+        if (currentAge >= RETIREMENT_AGE) {
+            retirementDate = today; // Already retired
+        } else {
+            retirementDate = today.plusYears(RETIREMENT_AGE - currentAge);
+        }
+        
+        LocalDate lifeExpectancyDate;
+        if (currentAge >= AVERAGE_LIFE_EXPECTANCY) {
+            lifeExpectancyDate = today.plusYears(EXTENDED_LIFE_YEARS);
+        } else {
+            lifeExpectancyDate = today.plusYears(AVERAGE_LIFE_EXPECTANCY - currentAge);
+        }
+        
+        return new ClientDerivedFields(
+                currentAge,
+                retirementDate,
+                lifeExpectancyDate,
+                Math.max(0, RETIREMENT_AGE - currentAge),
+                Math.max(0, AVERAGE_LIFE_EXPECTANCY - currentAge));
+    }
+
+    /**
+     * Memo for the given day, starting a new one when the day has moved forward
+     * Returns null for a day older than the current memo (a request that straddled midnight),
+     * which is computed without memoization instead of rolling the memo back
+     */
+    private DailyMemo memoFor(LocalDate today) {
+        DailyMemo current = memo;
+        if (current.day().equals(today)) {
+            return current;
+        }
+        if (today.isBefore(current.day())) {
+            return null;
+        }
+        DailyMemo fresh = new DailyMemo(today);
+        memo = fresh;
+        log.debug("Derived field memo reset for {}", today);
+        return fresh;
+    }
+
+    /**
+     * Derived values memoized by birth date for a single day
+     */
+    private record DailyMemo(LocalDate day, Map<LocalDate, ClientDerivedFields> values) {
+
+        DailyMemo(LocalDate day) {
+            this(day, new ConcurrentHashMap<>());
+        }
     }
 }
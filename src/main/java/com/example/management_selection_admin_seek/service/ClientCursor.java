@@ -0,0 +1,60 @@
+package com.example.management_selection_admin_seek.service;
+
+import com.example.management_selection_admin_seek.entity.Client;
+import com.example.management_selection_admin_seek.enums.ClientCursorOrder;
+import com.example.management_selection_admin_seek.exception.BusinessException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position in a keyset (seek) client listing
+ * Holds the ordering and the sort key of the last row returned, encoded as an opaque URL-safe token
+ */
+public record ClientCursor(ClientCursorOrder order, long lastId, LocalDate lastBirthDate) {
+
+    private static final String VERSION = "v1";
+    private static final String SEPARATOR = ":";
+
+    /**
+     * Cursor pointing right after the given client in the given ordering
+     */
+    public static ClientCursor after(Client client, ClientCursorOrder order) {
+        return new ClientCursor(order, client.getId(), order.isByBirthDate() ? client.getBirthDate() : null);
+    }
+
+    /**
+     * Encode as an opaque token for API clients
+     */
+    public String encode() {
+        String raw = String.join(SEPARATOR, VERSION, order.name(), Long.toString(lastId),
+                lastBirthDate != null ? lastBirthDate.toString() : "");
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a token produced by {@link #encode()}
+     * @throws BusinessException when the token is malformed
+     */
+    public static ClientCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR, -1);
+            if (parts.length != 4 || !VERSION.equals(parts[0])) {
+                throw new BusinessException("Invalid pagination cursor");
+            }
+
+            ClientCursorOrder order = ClientCursorOrder.valueOf(parts[1]);
+            long lastId = Long.parseLong(parts[2]);
+            LocalDate lastBirthDate = parts[3].isEmpty() ? null : LocalDate.parse(parts[3]);
+            if (order.isByBirthDate() && lastBirthDate == null) {
+                throw new BusinessException("Invalid pagination cursor");
+            }
+            return new ClientCursor(order, lastId, lastBirthDate);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BusinessException("Invalid pagination cursor", e);
+        }
+    }
+}
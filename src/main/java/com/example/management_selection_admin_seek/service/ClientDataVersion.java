@@ -0,0 +1,90 @@
+package com.example.management_selection_admin_seek.service;
+
+import com.example.management_selection_admin_seek.entity.Client;
+import com.example.management_selection_admin_seek.repository.ClientRepository;
+import com.example.management_selection_admin_seek.repository.projection.ClientDataMarker;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * In-memory version of the clients data, used as HTTP validators for client reads
+ *
+ * Seeded once at startup from max(update_date) and the row count, then kept current by ClientService
+ * whenever a client is created, so conditional GETs are answered without touching the database.
+ * Responses also carry derived fields computed against today's date, so the business date is part
+ * of the validators and every cached representation becomes stale at midnight in app.clients.time-zone.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ClientDataVersion {
+
+    private final ClientRepository clientRepository;
+    private final Clock clock;
+
+    private volatile Marker marker;
+
+    /**
+     * Load the version from the database once the application is ready
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        ClientDataMarker loaded = clientRepository.findDataMarker();
+        synchronized (this) {
+            marker = new Marker(loaded.lastUpdate(), loaded.count());
+        }
+        log.info("Client data version initialized: {} clients, last update {}", loaded.count(), loaded.lastUpdate());
+    }
+
+    /**
+     * Record a newly persisted client
+     * Ignored until initialized, since the initial load will include it
+     */
+    public synchronized void record(Client client) {
+        if (marker == null) {
+            return;
+        }
+        LocalDateTime lastUpdate = marker.lastUpdate();
+        if (client.getUpdateDate() != null && (lastUpdate == null || client.getUpdateDate().isAfter(lastUpdate))) {
+            lastUpdate = client.getUpdateDate();
+        }
+        marker = new Marker(lastUpdate, marker.count() + 1);
+    }
+
+    /**
+     * Validators for the current data, or null until the version has been loaded
+     */
+    public Validators currentValidators() {
+        Marker current = marker;
+        if (current == null) {
+            return null;
+        }
+        LocalDate today = LocalDate.now(clock);
+        long lastUpdateMillis = current.lastUpdate() != null
+                ? current.lastUpdate().atZone(clock.getZone()).toInstant().toEpochMilli()
+                : 0L;
+        long startOfTodayMillis = today.atStartOfDay(clock.getZone()).toInstant().toEpochMilli();
+
+        String eTag = "W/\"clients-" + current.count() + "-" + lastUpdateMillis + "-" + today.toEpochDay() + "\"";
+        return new Validators(eTag, Math.max(lastUpdateMillis, startOfTodayMillis));
+    }
+
+    private record Marker(LocalDateTime lastUpdate, long count) {
+    }
+
+    /**
+     * HTTP validators of the clients data
+     *
+     * @param eTag weak entity tag built from the row count, last update and business date
+     * @param lastModified epoch millis of the latest change, never earlier than the start of today
+     */
+    public record Validators(String eTag, long lastModified) {
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.management_selection_admin_seek.service;
+
+import java.time.LocalDate;
+
+/**
+ * Derived values for a client, all computed against the same "today"
+ *
+ * @param currentAge completed years since birth
+ * @param estimatedRetirementDate date the client reaches retirement age (today if already retired)
+ * @param estimatedLifeExpectancy date the client reaches the average life expectancy
+ * @param yearsToRetirement years left until retirement, 0 if already retired
+ * @param estimatedRemainingYears years left until the average life expectancy, 0 if exceeded
+ */
+public record ClientDerivedFields(
+        int currentAge,
+        LocalDate estimatedRetirementDate,
+        LocalDate estimatedLifeExpectancy,
+        int yearsToRetirement,
+        int estimatedRemainingYears) {
+}
@@ -0,0 +1,112 @@
+package com.example.management_selection_admin_seek.service;
+
+import com.example.management_selection_admin_seek.dto.ClientDetailResponse;
+import com.example.management_selection_admin_seek.enums.ClientExportFormat;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes client rows to an output stream one at a time in NDJSON or CSV
+ * Holds only a fixed-size buffer, so memory does not grow with the number of clients.
+ * Never closes the underlying stream, which belongs to the caller (usually the HTTP response).
+ */
+final class ClientExportWriter {
+
+    static final String CSV_HEADER = "id,name,lastName,fullName,age,birthDate,creationDate,updateDate," +
+            "calculatedCurrentAge,estimatedRetirementDate,estimatedLifeExpectancy,yearsToRetirement,estimatedRemainingYears";
+
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    private final ClientExportFormat format;
+    private final Writer writer;
+    private final ObjectWriter jsonWriter;
+
+    ClientExportWriter(ClientExportFormat format, OutputStream outputStream, ObjectMapper objectMapper) {
+        this.format = format;
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+        // Each row gets its own generator; closing it must neither close nor flush the buffered writer,
+        // or every row would be pushed to the response on its own
+        this.jsonWriter = objectMapper.writerFor(ClientDetailResponse.class)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .without(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .without(SerializationFeature.INDENT_OUTPUT);
+    }
+
+    /**
+     * Write the leading header row, if the format has one
+     */
+    void writeHeader() throws IOException {
+        if (format == ClientExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+    }
+
+    /**
+     * Write a single client as one line
+     */
+    void write(ClientDetailResponse client) throws IOException {
+        switch (format) {
+            case NDJSON -> jsonWriter.writeValue(writer, client);
+            case CSV -> writeCsvRow(client);
+        }
+        writer.write('\n');
+    }
+
+    /**
+     * Push buffered rows to the underlying stream without closing it
+     */
+    void flush() throws IOException {
+        writer.flush();
+    }
+
+    private void writeCsvRow(ClientDetailResponse client) throws IOException {
+        writeCsvFields(
+                client.getId(),
+                client.getName(),
+                client.getLastName(),
+                client.getFullName(),
+                client.getAge(),
+                client.getBirthDate(),
+                client.getCreationDate(),
+                client.getUpdateDate(),
+                client.getCalculatedCurrentAge(),
+                client.getEstimatedRetirementDate(),
+                client.getEstimatedLifeExpectancy(),
+                client.getYearsToRetirement(),
+                client.getEstimatedRemainingYears());
+    }
+
+    private void writeCsvFields(Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (values[i] != null) {
+                writer.write(escapeCsv(values[i].toString()));
+            }
+        }
+    }
+
+    /**
+     * Quote a CSV value when it contains a separator, quote or line break (RFC 4180)
+     */
+    static String escapeCsv(String value) {
+        boolean needsQuoting = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!needsQuoting) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.management_selection_admin_seek.service;
+
+import com.example.management_selection_admin_seek.entity.Client;
+
+/**
+ * Broadcasts client changes to the other instances of the application
+ *
+ * Every instance keeps its own in-process caches, age histogram and data version; a change made on one
+ * node is published here and delivered to every other node as a PeerClientCreatedEvent, which
+ * ClientService applies just like a local insert. Selected with app.cache.invalidation.bus:
+ * - db-polled (default): change log table polled by every node, no extra infrastructure
+ * - in-memory: nodes connected in the same JVM, for tests
+ */
+public interface ClientInvalidationBus {
+
+    /**
+     * Publish a newly created client
+     * Called inside the transaction that inserts it; peers are only notified if that transaction commits
+     */
+    void publishClientCreated(Client client);
+}
@@ -1,27 +1,48 @@
 package com.example.management_selection_admin_seek.service;
 
+import com.example.management_selection_admin_seek.config.CacheConfig;
+import com.example.management_selection_admin_seek.config.CacheReloader;
+import com.example.management_selection_admin_seek.config.ClientPageKey;
+import com.example.management_selection_admin_seek.config.ClientPageKeyGenerator;
 import com.example.management_selection_admin_seek.dto.ClientCreateRequest;
 import com.example.management_selection_admin_seek.dto.ClientResponse;
 import com.example.management_selection_admin_seek.dto.ClientDetailResponse;
 import com.example.management_selection_admin_seek.dto.ClientMetricsResponse;
+import com.example.management_selection_admin_seek.dto.ClientAgeDistributionResponse;
+import com.example.management_selection_admin_seek.dto.ClientCursorPageResponse;
+import com.example.management_selection_admin_seek.dto.ClientCountResponse;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import com.example.management_selection_admin_seek.entity.Client;
+import com.example.management_selection_admin_seek.enums.ClientCursorOrder;
+import com.example.management_selection_admin_seek.enums.ClientExportFormat;
 import com.example.management_selection_admin_seek.exception.BusinessException;
 import com.example.management_selection_admin_seek.mapper.ClientMapper;
 import com.example.management_selection_admin_seek.repository.ClientRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.Caching;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.Period;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 /**
  * Service for client management
@@ -31,26 +52,31 @@ import java.util.List;
 @RequiredArgsConstructor
 @Slf4j
 @Transactional
-public class ClientService {
+public class ClientService implements CacheReloader {
 
     private final ClientRepository clientRepository;
     private final ClientMapper clientMapper;
     private final ClientCalculationService calculationService;
     private final AsyncProcessingService asyncProcessingService;
+    private final ClientAgeHistogram ageHistogram;
+    private final ClientCacheInvalidator cacheInvalidator;
+    private final ClientDataVersion clientDataVersion;
+    private final ClientInvalidationBus invalidationBus;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+
+    private static final int MAX_PERCENTILES = 20;
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
 
     /**
      * Create new client
      * REQUIREMENT: "Create new clients through an endpoint that allows 
      * registering name, last name, age and birth date"
      * 
-     * CACHE STRATEGY: Evicts both clients and metrics cache when new client is added
-     * - clients: Client listing becomes stale
-     * - client-metrics: Statistics need recalculation
-     */
-    @Caching(evict = {
-        @CacheEvict(value = "clients", allEntries = true),
-        @CacheEvict(value = "client-metrics", allEntries = true)
-    })
+     * CACHE STRATEGY: Write-aware invalidation once the insert is committed (see ClientCacheInvalidator)
+     * - client-metrics: Evicted, the next read rebuilds it from the age histogram without a query
+     * - clients: Only listings the new row can appear in are evicted
+     */
     public ClientResponse createClient(ClientCreateRequest request) {
         log.info("Creating new client: {} {}", request.getName(), request.getLastName());
         
@@ -65,6 +91,10 @@ public class ClientService {
         
         log.info("Client created successfully with ID: {}", savedClient.getId());
         
+        // Keep the age histogram and caches current once the insert is committed, here and on every peer
+        afterCommit(() -> onClientCommitted(savedClient));
+        invalidationBus.publishClientCreated(savedClient);
+        
         // 🚀 ASYNC: Process client in background (non-blocking)
         asyncProcessingService.processNewClient(savedClient);
         
@@ -72,12 +102,58 @@ public class ClientService {
         return clientMapper.toResponse(savedClient);
     }
 
+    /**
+     * Run an action after the surrounding transaction commits,
+     * so a rolled back insert never skews the metrics or caches
+     */
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * Record a committed client in the age histogram and data version, and update the caches
+     * Cached metrics are evicted rather than rebuilt here: the next read takes a fresh histogram snapshot,
+     * so concurrent inserts cannot leave an older snapshot in the cache
+     */
+    private void onClientCommitted(Client client) {
+        ageHistogram.record(client);
+        clientDataVersion.record(client);
+        cacheInvalidator.onClientCreated(client);
+    }
+
+    /**
+     * Apply a client created on another instance, delivered by the ClientInvalidationBus
+     * The client is read back so local caches get the same row the peer committed;
+     * if it cannot be found the client caches are cleared instead
+     */
+    @EventListener
+    @Transactional(readOnly = true)
+    public void onPeerClientCreated(PeerClientCreatedEvent event) {
+        clientRepository.findById(event.clientId()).ifPresentOrElse(
+                this::onClientCommitted,
+                () -> {
+                    log.warn("Client {} created on {} not found, clearing client caches",
+                            event.clientId(), event.originNode());
+                    cacheInvalidator.evictAll();
+                });
+    }
+
     /**
      * Validate that age is consistent with birth date
      * Allows a maximum difference of 1 year due to birthday timing
+     * Ages are taken on the business clock's date, the same one the derived fields use
      */
     private void validateAgeConsistency(Integer providedAge, LocalDate birthDate) {
-        int calculatedAge = Period.between(birthDate, LocalDate.now()).getYears();
+        int calculatedAge = Period.between(birthDate, calculationService.today()).getYears();
         int ageDifference = Math.abs(providedAge - calculatedAge);
         
         if (ageDifference > 1) {
@@ -95,17 +171,20 @@ public class ClientService {
      * 
      * CACHE STRATEGY: Caches complete client list with calculations
      * Cache Key: "clients" (static, no parameters)
+     * Stale-while-revalidate: an aging list is served immediately while it is rebuilt in the background
      */
     @Transactional(readOnly = true)
-    @Cacheable(value = "clients", key = "'all-clients'")
+    @Cacheable(value = "clients", key = "'all-clients'", sync = true)
     public List<ClientDetailResponse> getAllClientsWithDetails() {
+        return loadAllClientsWithDetails();
+    }
+
+    private List<ClientDetailResponse> loadAllClientsWithDetails() {
         log.info("Getting all clients with derived calculations");
         
         List<Client> clients = clientRepository.findAll();
         
-        List<ClientDetailResponse> clientResponses = clients.stream()
-                .map(this::buildClientDetailResponse)
-                .toList();
+        List<ClientDetailResponse> clientResponses = buildClientDetailResponses(clients);
         
         log.info("Retrieved {} clients with derived calculations", clientResponses.size());
         
@@ -118,19 +197,26 @@ public class ClientService {
      * REQUIREMENT: Enhanced version for high-performance client listing
      * 
      * CACHE STRATEGY: Caches paginated results based on pagination parameters
-     * Cache Key: "clients-page-{pageNumber}-{pageSize}-{sort}"
+     * Cache Key: ClientPageKey(PAGE, pageNumber, pageSize, sort), only for shallow pages with whitelisted sorts
      */
     @Transactional(readOnly = true)
-    @Cacheable(value = "clients", key = "'page-' + #pageable.pageNumber + '-' + #pageable.pageSize + '-' + #pageable.sort.toString()")
+    @Cacheable(value = "clients", keyGenerator = ClientPageKeyGenerator.BEAN_NAME,
+            condition = "@clientPageKeyGenerator.isCacheable(#pageable)", sync = true)
     public Page<ClientDetailResponse> getAllClientsWithDetails(Pageable pageable) {
+        return loadClientsPage(pageable);
+    }
+
+    private Page<ClientDetailResponse> loadClientsPage(Pageable pageable) {
         log.info("Getting clients with derived calculations - Page: {}, Size: {}, Sort: {}", 
                  pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort());
         
         // Get paginated clients from repository  
         Page<Client> clientsPage = clientRepository.findAll(pageable);
         
-        // Transform to ClientDetailResponse with derived calculations using existing method
-        Page<ClientDetailResponse> clientResponsesPage = clientsPage.map(this::buildClientDetailResponse);
+        // Transform to ClientDetailResponse with derived calculations computed for the whole page at once
+        Map<LocalDate, ClientDerivedFields> derived = calculateDerivedFields(clientsPage.getContent());
+        Page<ClientDetailResponse> clientResponsesPage = clientsPage.map(
+                client -> buildClientDetailResponse(client, derived.get(client.getBirthDate())));
         
         log.info("Retrieved {} clients (page {}/{}) with derived calculations", 
                  clientResponsesPage.getNumberOfElements(),
@@ -140,21 +226,189 @@ public class ClientService {
         return clientResponsesPage;
     }
 
+    /**
+     * Get clients with derived calculations as a Slice (COUNT-FREE)
+     * SCALABILITY: Same listing as the paginated variant but only answers whether a next page exists,
+     * so a single query is issued per request instead of a page query plus a COUNT(*)
+     * Callers that need the total use getClientCount(), which is maintained in memory
+     * 
+     * CACHE STRATEGY: Caches slices based on pagination parameters
+     * Cache Key: ClientPageKey(SLICE, pageNumber, pageSize, sort), only for shallow pages with whitelisted sorts
+     */
+    @Transactional(readOnly = true)
+    @Cacheable(value = "clients", keyGenerator = ClientPageKeyGenerator.BEAN_NAME,
+            condition = "@clientPageKeyGenerator.isCacheable(#pageable)", sync = true)
+    public Slice<ClientDetailResponse> getClientsSlice(Pageable pageable) {
+        return loadClientsSlice(pageable);
+    }
+
+    private Slice<ClientDetailResponse> loadClientsSlice(Pageable pageable) {
+        log.info("Getting client slice with derived calculations - Page: {}, Size: {}, Sort: {}", 
+                 pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort());
+        
+        Slice<Client> clientsSlice = clientRepository.findAllBy(pageable);
+        Map<LocalDate, ClientDerivedFields> derived = calculateDerivedFields(clientsSlice.getContent());
+        Slice<ClientDetailResponse> clientResponsesSlice = clientsSlice.map(
+                client -> buildClientDetailResponse(client, derived.get(client.getBirthDate())));
+        
+        log.info("Retrieved {} clients (slice {}) with derived calculations - Has next: {}", 
+                 clientResponsesSlice.getNumberOfElements(),
+                 clientResponsesSlice.getNumber(),
+                 clientResponsesSlice.hasNext());
+        
+        return clientResponsesSlice;
+    }
+
+    /**
+     * Get total number of clients
+     * Answered from the in-memory age histogram, which is incremented on every committed insert,
+     * so no COUNT(*) is issued once it is initialized; falls back to a count query while it is loading
+     */
+    @Transactional(readOnly = true)
+    public ClientCountResponse getClientCount() {
+        long total = ageHistogram.isInitialized() ? ageHistogram.getTotal() : clientRepository.count();
+        log.info("Client count retrieved - Total: {}", total);
+        
+        return ClientCountResponse.builder()
+            .totalClients(total)
+            .build();
+    }
+
+    /**
+     * Get clients with derived calculations using keyset (seek) pagination
+     * SCALABILITY: Each page is a range seek on the primary key or idx_clients_birth_date,
+     * so deep pages cost the same as the first one and no COUNT(*) query is issued
+     * 
+     * @param cursor opaque cursor from a previous response, or null for the first page
+     * @param order ordering of the listing (must match the cursor's ordering)
+     * @param size number of clients per page
+     */
+    @Transactional(readOnly = true)
+    public ClientCursorPageResponse getClientsByCursor(String cursor, ClientCursorOrder order, int size) {
+        log.info("Getting clients by cursor - Order: {}, Size: {}, First page: {}", order, size, cursor == null);
+        
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new BusinessException(
+                String.format("Page size must be between 1 and %d", MAX_CURSOR_PAGE_SIZE)
+            );
+        }
+        
+        ClientCursor position = cursor != null && !cursor.isBlank() ? ClientCursor.decode(cursor) : null;
+        if (position != null && position.order() != order) {
+            throw new BusinessException(
+                String.format("Cursor was issued for order %s, not %s", position.order(), order)
+            );
+        }
+        
+        // Fetch one extra row to know whether a next page exists without counting
+        List<Client> clients = findNextClients(position, order, PageRequest.ofSize(size + 1));
+        boolean hasNext = clients.size() > size;
+        List<Client> pageClients = hasNext ? clients.subList(0, size) : clients;
+        
+        List<ClientDetailResponse> content = buildClientDetailResponses(pageClients);
+        String nextCursor = hasNext
+                ? ClientCursor.after(pageClients.get(pageClients.size() - 1), order).encode()
+                : null;
+        
+        log.info("Retrieved {} clients by cursor - Has next: {}", content.size(), hasNext);
+        
+        return ClientCursorPageResponse.builder()
+            .content(content)
+            .size(size)
+            .hasNext(hasNext)
+            .nextCursor(nextCursor)
+            .build();
+    }
+
+    /**
+     * Run the keyset query matching the ordering and cursor position
+     */
+    private List<Client> findNextClients(ClientCursor position, ClientCursorOrder order, Pageable limit) {
+        return switch (order) {
+            case ID_ASC -> clientRepository.findNextByIdAsc(
+                    position != null ? position.lastId() : 0L, limit);
+            case ID_DESC -> clientRepository.findNextByIdDesc(
+                    position != null ? position.lastId() : Long.MAX_VALUE, limit);
+            case BIRTH_DATE_ASC -> position != null
+                    ? clientRepository.findNextByBirthDateAsc(position.lastBirthDate(), position.lastId(), limit)
+                    : clientRepository.findByOrderByBirthDateAscIdAsc(limit);
+            case BIRTH_DATE_DESC -> position != null
+                    ? clientRepository.findNextByBirthDateDesc(position.lastBirthDate(), position.lastId(), limit)
+                    : clientRepository.findByOrderByBirthDateDescIdDesc(limit);
+        };
+    }
+
+    /**
+     * Export every client with derived calculations straight to the given stream
+     * SCALABILITY: Rows are streamed from the database with a JDBC fetch size and each one is
+     * written and detached before the next is read, so memory stays constant regardless of the
+     * number of clients. Nothing is cached; the stream is not closed
+     * 
+     * @param format NDJSON (one JSON object per line) or CSV with a header row
+     * @param outputStream destination, usually the HTTP response body
+     * @return number of exported clients
+     */
+    @Transactional(readOnly = true)
+    public long exportClients(ClientExportFormat format, OutputStream outputStream) throws IOException {
+        log.info("Exporting all clients with derived calculations - Format: {}", format);
+        
+        ClientExportWriter writer = new ClientExportWriter(format, outputStream, objectMapper);
+        writer.writeHeader();
+        
+        // One "today" for the whole export so rows are consistent even across midnight
+        LocalDate today = calculationService.today();
+        long exported = 0;
+        try (Stream<Client> clients = clientRepository.streamAllForExport()) {
+            Iterator<Client> iterator = clients.iterator();
+            while (iterator.hasNext()) {
+                Client client = iterator.next();
+                writer.write(buildClientDetailResponse(client,
+                        calculationService.calculateDerivedFields(client.getBirthDate(), today)));
+                // Release the entity so the persistence context does not grow with the export
+                entityManager.detach(client);
+                exported++;
+            }
+        }
+        writer.flush();
+        
+        log.info("Exported {} clients - Format: {}", exported, format);
+        return exported;
+    }
+
+    /**
+     * Build ClientDetailResponse list with derived calculations
+     * Derived values for the whole batch are computed in one pass against a single "today" snapshot
+     */
+    private List<ClientDetailResponse> buildClientDetailResponses(List<Client> clients) {
+        Map<LocalDate, ClientDerivedFields> derived = calculateDerivedFields(clients);
+        return clients.stream()
+                .map(client -> buildClientDetailResponse(client, derived.get(client.getBirthDate())))
+                .toList();
+    }
+
+    /**
+     * Derived values for a batch of clients, keyed by birth date
+     */
+    private Map<LocalDate, ClientDerivedFields> calculateDerivedFields(List<Client> clients) {
+        return calculationService.calculateDerivedFields(clients.stream()
+                .map(Client::getBirthDate)
+                .toList());
+    }
+
     /**
      * Build ClientDetailResponse with derived calculations
-     * Uses mapper for basic transformation and calculation service for business logic
+     * Uses mapper for basic transformation and precomputed derived values from the calculation service
      */
-    private ClientDetailResponse buildClientDetailResponse(Client client) {
+    private ClientDetailResponse buildClientDetailResponse(Client client, ClientDerivedFields derived) {
         // Get basic mapping first (without calculations)
         ClientDetailResponse response = clientMapper.toDetailResponse(client);
         
-        // Add derived calculations using calculation service
-        LocalDate birthDate = client.getBirthDate();
-        response.setCalculatedCurrentAge(calculationService.calculateCurrentAge(birthDate));
-        response.setEstimatedRetirementDate(calculationService.calculateRetirementDate(birthDate));
-        response.setEstimatedLifeExpectancy(calculationService.calculateLifeExpectancy(birthDate));
-        response.setYearsToRetirement(calculationService.calculateYearsToRetirement(birthDate));
-        response.setEstimatedRemainingYears(calculationService.calculateRemainingYears(birthDate));
+        // Add derived calculations
+        response.setCalculatedCurrentAge(derived.currentAge());
+        response.setEstimatedRetirementDate(derived.estimatedRetirementDate());
+        response.setEstimatedLifeExpectancy(derived.estimatedLifeExpectancy());
+        response.setYearsToRetirement(derived.yearsToRetirement());
+        response.setEstimatedRemainingYears(derived.estimatedRemainingYears());
         
         return response;
     }
@@ -166,83 +420,135 @@ public class ClientService {
      * 
      * CACHE STRATEGY: Caches expensive statistical calculations
      * Cache Key: "client-metrics" (static, aggregated data)
+     * 
+     * Loaded with sync = true: on a miss only one caller computes the metrics, concurrent callers wait for it,
+     * and aging metrics are served immediately while they are recomputed in the background
+     * 
+     * Served from the in-memory age histogram when it is initialized (no DB access),
+     * falling back to a single grouped aggregate query while it is still loading.
+     * Median and standard deviation come from the frequency table, never from a full age scan
      */
     @Transactional(readOnly = true)
-    @Cacheable(value = "client-metrics", key = "'statistics'")
+    @Cacheable(value = "client-metrics", key = "'statistics'", sync = true)
     public ClientMetricsResponse getClientMetrics() {
         log.info("Calculating client metrics");
         
-        // Get basic counts and stats from database
-        long totalClients = clientRepository.count();
-        
-        if (totalClients == 0) {
-            log.info("No clients found, returning empty metrics");
-            return ClientMetricsResponse.builder()
-                .totalClients(0L)
-                .averageAge(0.0)
-                .standardDeviationAge(0.0)
-                .minAge(null)
-                .maxAge(null)
-                .medianAge(0.0)
-                .build();
+        return buildMetricsResponse(currentAgeStatistics());
+    }
+
+    /**
+     * Recompute a "clients" or "client-metrics" entry for its stale-while-revalidate background refresh
+     * Called through the service proxy (see CacheConfig), so it runs in its own read-only transaction;
+     * it rebuilds the value from its cache key and never reads the cache
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Object reload(String cacheName, Object key) {
+        if (CacheConfig.CLIENT_METRICS_CACHE.equals(cacheName) && ClientCacheInvalidator.STATISTICS_KEY.equals(key)) {
+            return buildMetricsResponse(currentAgeStatistics());
         }
+        if (CacheConfig.CLIENTS_CACHE.equals(cacheName)) {
+            if (ClientCacheInvalidator.ALL_CLIENTS_KEY.equals(key)) {
+                return loadAllClientsWithDetails();
+            }
+            if (key instanceof ClientPageKey pageKey) {
+                Pageable pageable = PageRequest.of(pageKey.page(), pageKey.size(), pageKey.sort());
+                return pageKey.view() == ClientPageKey.View.PAGE
+                        ? loadClientsPage(pageable)
+                        : loadClientsSlice(pageable);
+            }
+        }
+        throw new IllegalArgumentException("No reload for cache '" + cacheName + "' key '" + key + "'");
+    }
+
+    /**
+     * Get client age distribution
+     * Percentiles and a bucketed histogram computed from the age frequency table,
+     * so the cost does not grow with the number of clients
+     */
+    @Transactional(readOnly = true)
+    public ClientAgeDistributionResponse getAgeDistribution(int bucketWidth, List<Double> percentiles) {
+        log.info("Calculating client age distribution - Bucket width: {}, Percentiles: {}", bucketWidth, percentiles);
         
-        // Get statistical data
-        Double averageAge = clientRepository.findAverageAge();
-        Integer minAge = clientRepository.findMinAge();
-        Integer maxAge = clientRepository.findMaxAge();
-        List<Integer> allAges = clientRepository.findAllAges();
-        
-        // Calculate standard deviation
-        double standardDeviation = calculateStandardDeviation(allAges, averageAge);
+        validateDistributionParameters(bucketWidth, percentiles);
+        AgeStatistics statistics = currentAgeStatistics();
         
-        // Calculate median
-        double median = calculateMedian(allAges);
+        Map<String, Double> percentileValues = new LinkedHashMap<>();
+        for (Double percentile : percentiles) {
+            percentileValues.put(percentileName(percentile),
+                    Math.round(statistics.getPercentile(percentile) * 100.0) / 100.0);
+        }
         
-        log.info("Metrics calculated - Total: {}, Avg: {}, StdDev: {}", 
-                totalClients, averageAge, standardDeviation);
+        List<ClientAgeDistributionResponse.AgeBucket> histogram = statistics.getBuckets(bucketWidth).stream()
+                .map(bucket -> ClientAgeDistributionResponse.AgeBucket.builder()
+                        .fromAge(bucket.fromAge())
+                        .toAge(bucket.toAge())
+                        .count(bucket.count())
+                        .build())
+                .toList();
         
-        return ClientMetricsResponse.builder()
-            .totalClients(totalClients)
-            .averageAge(Math.round(averageAge * 100.0) / 100.0) // Round to 2 decimals
-            .standardDeviationAge(Math.round(standardDeviation * 100.0) / 100.0)
-            .minAge(minAge)
-            .maxAge(maxAge)
-            .medianAge(Math.round(median * 100.0) / 100.0)
+        return ClientAgeDistributionResponse.builder()
+            .totalClients(statistics.getTotal())
+            .bucketWidth(bucketWidth)
+            .percentiles(percentileValues)
+            .histogram(histogram)
             .build();
     }
 
     /**
-     * Calculate standard deviation of ages
+     * Current age distribution
+     * Histogram answers without DB access; otherwise one grouped aggregate query
      */
-    private double calculateStandardDeviation(List<Integer> ages, double mean) {
-        if (ages.size() <= 1) {
-            return 0.0;
+    private AgeStatistics currentAgeStatistics() {
+        return ageHistogram.isInitialized()
+                ? ageHistogram.snapshot()
+                : AgeStatistics.from(clientRepository.findAgeAggregate());
+    }
+
+    /**
+     * Validate bucket width and requested percentiles
+     */
+    private void validateDistributionParameters(int bucketWidth, List<Double> percentiles) {
+        if (bucketWidth < 1 || bucketWidth > AgeStatistics.AGE_SLOTS) {
+            throw new BusinessException(
+                String.format("Bucket width must be between 1 and %d years", AgeStatistics.AGE_SLOTS)
+            );
         }
-        
-        double sum = 0.0;
-        for (Integer age : ages) {
-            sum += Math.pow(age - mean, 2);
+        if (percentiles == null || percentiles.isEmpty() || percentiles.size() > MAX_PERCENTILES) {
+            throw new BusinessException(
+                String.format("Between 1 and %d percentiles must be requested", MAX_PERCENTILES)
+            );
+        }
+        for (Double percentile : percentiles) {
+            if (percentile == null || !Double.isFinite(percentile) || percentile < 0.0 || percentile > 100.0) {
+                throw new BusinessException(
+                    String.format("Percentile %s is not between 0 and 100", percentile)
+                );
+            }
         }
-        
-        return Math.sqrt(sum / ages.size());
     }
 
     /**
-     * Calculate median of ages
+     * Name a percentile for the response, e.g. 90 -> "p90", 99.9 -> "p99.9"
      */
-    private double calculateMedian(List<Integer> sortedAges) {
-        int size = sortedAges.size();
-        if (size == 0) {
-            return 0.0;
-        }
+    private String percentileName(double percentile) {
+        return "p" + BigDecimal.valueOf(percentile).stripTrailingZeros().toPlainString();
+    }
+
+    /**
+     * Build metrics response from an age distribution snapshot
+     */
+    private ClientMetricsResponse buildMetricsResponse(AgeStatistics statistics) {
+        log.info("Metrics calculated - Total: {}, Avg: {}, StdDev: {}", 
+                statistics.getTotal(), statistics.getMean(), statistics.getStandardDeviation());
         
-        if (size % 2 == 0) {
-            // Even number of elements - average of two middle values
-            return (sortedAges.get(size / 2 - 1) + sortedAges.get(size / 2)) / 2.0;
-        } else {
-            // Odd number of elements - middle value
-            return sortedAges.get(size / 2);
-        }
+        return ClientMetricsResponse.builder()
+            .totalClients(statistics.getTotal())
+            .averageAge(Math.round(statistics.getMean() * 100.0) / 100.0)
+            .standardDeviationAge(Math.round(statistics.getStandardDeviation() * 100.0) / 100.0)
+            .minAge(statistics.getMin())
+            .maxAge(statistics.getMax())
+            .medianAge(Math.round(statistics.getMedian() * 100.0) / 100.0)
+            .build();
     }
 }
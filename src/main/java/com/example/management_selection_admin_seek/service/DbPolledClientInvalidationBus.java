@@ -0,0 +1,167 @@
+package com.example.management_selection_admin_seek.service;
+
+import com.example.management_selection_admin_seek.entity.Client;
+import com.example.management_selection_admin_seek.entity.ClientChangeLog;
+import com.example.management_selection_admin_seek.repository.ClientChangeLogRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Client invalidation bus backed by the client_change_log table
+ *
+ * Publishing inserts a change row in the same transaction as the client (transactional outbox), so a
+ * change is visible to peers exactly when the client is. Every node polls the log and raises a
+ * PeerClientCreatedEvent for each row written by another node.
+ *
+ * A row is stamped when it is written but becomes visible at commit, possibly behind rows already read
+ * and after any number of later ids. Each poll therefore re-reads every row stamped since the previous
+ * poll started minus app.cache.invalidation.commit-slack (the longest expected time between the stamp
+ * and the commit, including clock skew between nodes), and skips the ones already delivered.
+ * Rows past app.cache.invalidation.retention are purged by any node.
+ */
+@Component
+@ConditionalOnProperty(name = "app.cache.invalidation.bus", havingValue = "db-polled", matchIfMissing = true)
+@Slf4j
+public class DbPolledClientInvalidationBus implements ClientInvalidationBus {
+
+    private final ClientChangeLogRepository changeLogRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Clock clock;
+    private final String nodeId;
+    private final int batchSize;
+    private final Duration commitSlack;
+    private final Duration retention;
+    private final Counter publishedChanges;
+    private final Counter receivedChanges;
+
+    /** Ids read in the current window, with their stamp so they can be dropped once out of it */
+    private final Map<Long, LocalDateTime> deliveredIds = new HashMap<>();
+    private LocalDateTime lastPollStartedAt;
+
+    public DbPolledClientInvalidationBus(
+            ClientChangeLogRepository changeLogRepository,
+            ApplicationEventPublisher eventPublisher,
+            MeterRegistry meterRegistry,
+            Clock clock,
+            @Value("${app.cache.invalidation.node-id:}") String nodeId,
+            @Value("${app.cache.invalidation.batch-size:500}") int batchSize,
+            @Value("${app.cache.invalidation.commit-slack:PT30S}") Duration commitSlack,
+            @Value("${app.cache.invalidation.retention:PT1H}") Duration retention) {
+        this.changeLogRepository = changeLogRepository;
+        this.eventPublisher = eventPublisher;
+        this.clock = clock;
+        this.nodeId = StringUtils.hasText(nodeId) ? nodeId : UUID.randomUUID().toString();
+        this.batchSize = batchSize;
+        this.commitSlack = commitSlack;
+        this.retention = retention;
+        this.publishedChanges = Counter.builder("cache.invalidation.changes")
+                .description("Client changes exchanged with other instances through the invalidation bus")
+                .tag("direction", "published")
+                .register(meterRegistry);
+        this.receivedChanges = Counter.builder("cache.invalidation.changes")
+                .description("Client changes exchanged with other instances through the invalidation bus")
+                .tag("direction", "received")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Start polling from now; changes already visible are marked delivered, since they are in the
+     * database this node will read into its empty caches
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        LocalDateTime startedAt = LocalDateTime.now(clock);
+        readChangesSince(startedAt.minus(commitSlack), change -> deliveredIds.put(change.getId(), change.getCreatedAt()));
+        lastPollStartedAt = startedAt;
+        log.info("Client invalidation bus polling the change log from {} as node {}", startedAt, nodeId);
+    }
+
+    @Override
+    public void publishClientCreated(Client client) {
+        changeLogRepository.save(ClientChangeLog.builder()
+                .clientId(client.getId())
+                .originNode(nodeId)
+                .createdAt(LocalDateTime.now(clock))
+                .build());
+        publishedChanges.increment();
+    }
+
+    /**
+     * Deliver the changes other nodes logged since the last poll
+     * A failed poll does not advance the window, so the next one reads its rows again
+     */
+    @Scheduled(fixedDelayString = "${app.cache.invalidation.poll-interval:PT2S}")
+    public synchronized void poll() {
+        if (lastPollStartedAt == null) {
+            return;
+        }
+        LocalDateTime startedAt = LocalDateTime.now(clock);
+        readChangesSince(lastPollStartedAt.minus(commitSlack), change -> {
+            if (deliveredIds.putIfAbsent(change.getId(), change.getCreatedAt()) != null
+                    || nodeId.equals(change.getOriginNode())) {
+                return;
+            }
+            receivedChanges.increment();
+            eventPublisher.publishEvent(new PeerClientCreatedEvent(change.getClientId(), change.getOriginNode()));
+        });
+        lastPollStartedAt = startedAt;
+
+        // Rows stamped before the next window are never read again
+        LocalDateTime nextWindowStart = startedAt.minus(commitSlack);
+        deliveredIds.values().removeIf(createdAt -> createdAt.isBefore(nextWindowStart));
+    }
+
+    /**
+     * Remove changes every node has had time to poll
+     */
+    @Scheduled(fixedDelayString = "${app.cache.invalidation.purge-interval:PT10M}")
+    public void purge() {
+        int purged = changeLogRepository.deleteOlderThan(LocalDateTime.now(clock).minus(retention));
+        if (purged > 0) {
+            log.debug("Purged {} client change log entries older than {}", purged, retention);
+        }
+    }
+
+    String getNodeId() {
+        return nodeId;
+    }
+
+    int getDeliveredCount() {
+        return deliveredIds.size();
+    }
+
+    /**
+     * Read every change stamped since the given time, in id order, batchSize rows per query
+     */
+    private void readChangesSince(LocalDateTime since, Consumer<ClientChangeLog> action) {
+        long afterId = 0L;
+        List<ClientChangeLog> changes;
+        do {
+            changes = changeLogRepository.findByCreatedAtGreaterThanEqualAndIdGreaterThanOrderByIdAsc(
+                    since, afterId, PageRequest.of(0, batchSize));
+            for (ClientChangeLog change : changes) {
+                afterId = change.getId();
+                action.accept(change);
+            }
+        } while (changes.size() == batchSize);
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.management_selection_admin_seek.service;
+
+import com.example.management_selection_admin_seek.entity.Client;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Client invalidation bus delivering changes directly to peer buses in the same JVM
+ *
+ * Meant for tests: several application contexts (nodes) are connected with connect(), and a published
+ * change reaches every peer once the publishing transaction commits. A single node has no peers,
+ * so publishing is a no-op.
+ */
+@Component
+@ConditionalOnProperty(name = "app.cache.invalidation.bus", havingValue = "in-memory")
+@Slf4j
+public class InMemoryClientInvalidationBus implements ClientInvalidationBus {
+
+    private final ApplicationEventPublisher eventPublisher;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final List<InMemoryClientInvalidationBus> peers = new CopyOnWriteArrayList<>();
+
+    public InMemoryClientInvalidationBus(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Connect two nodes in both directions
+     */
+    public void connect(InMemoryClientInvalidationBus peer) {
+        if (peer != this && !peers.contains(peer)) {
+            peers.add(peer);
+            peer.connect(this);
+        }
+    }
+
+    @Override
+    public void publishClientCreated(Client client) {
+        PeerClientCreatedEvent event = new PeerClientCreatedEvent(client.getId(), nodeId);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            deliver(event);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                deliver(event);
+            }
+        });
+    }
+
+    private void deliver(PeerClientCreatedEvent event) {
+        for (InMemoryClientInvalidationBus peer : peers) {
+            log.debug("Delivering client {} created on {} to {}", event.clientId(), nodeId, peer.nodeId);
+            peer.eventPublisher.publishEvent(event);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.management_selection_admin_seek.service;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Verified claims of a JWT issued by JwtService
+ * Produced once per token by JwtService.validateToken, so callers never re-parse the token
+ *
+ * @param username subject of the token
+ * @param userId id of the user the token was issued to
+ * @param userRole primary role (ADMIN/USER)
+ * @param authorities granted authorities at issue time
+ * @param enabled account status at issue time
+ * @param fullName display name
+ * @param issuedAt when the token was issued
+ * @param expiresAt when the token expires
+ * @param tokenId jti of a refresh token, null for access tokens
+ */
+public record JwtClaims(
+        String username,
+        Long userId,
+        String userRole,
+        List<String> authorities,
+        boolean enabled,
+        String fullName,
+        Instant issuedAt,
+        Instant expiresAt,
+        String tokenId
+) {
+
+    public JwtClaims {
+        authorities = authorities == null ? List.of() : List.copyOf(authorities);
+    }
+}
@@ -12,6 +12,7 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Date;
 import java.util.HashMap;
@@ -30,6 +31,9 @@ import java.util.function.Function;
  * - Claim Extraction: Parses specific claims from JWT tokens (username, expiration, etc.)
  * - Security Key Management: Handles signing key generation and validation
  * 
+ * The signing key and the JWT parser are immutable and thread-safe, so they are built once on first use
+ * (after the @Value fields are injected) instead of decoding the secret and rebuilding the parser per call.
+ * validateToken() verifies the signature and expiration once and returns typed JwtClaims.
  */
 @Service
 @RequiredArgsConstructor
@@ -47,6 +51,23 @@ public class JwtService {
     @Value("${app.jwt.refresh-expiration}")
     private Long refreshExpiration;
 
+    private volatile SigningMaterial signingMaterial;
+
+    /**
+     * Verify a token once and return its typed claims
+     * 
+     * Signature, format and expiration are checked in a single parse. Used by JwtAuthenticationFilter
+     * on every authenticated request.
+     * 
+     * @param token JWT token string
+     * @return verified claims
+     * @throws JwtException if the token is expired, malformed, unsupported or its signature is invalid
+     * @throws IllegalArgumentException if the token is null or empty
+     */
+    public JwtClaims validateToken(String token) {
+        return toJwtClaims(extractAllClaims(token));
+    }
+
     /**
      * Extract username from JWT token
      * 
@@ -101,24 +122,44 @@ public class JwtService {
      * Generate JWT access token with extra claims
      */
     public String generateToken(Map<String, Object> extraClaims, UserDetails userDetails) {
-        return buildToken(extraClaims, userDetails, jwtExpiration);
+        Instant now = Instant.now();
+        return buildToken(extraClaims, userDetails, now, now.plusMillis(jwtExpiration), null);
     }
 
     /**
      * Generate JWT refresh token for user
+     * The token id (jti) is the key of its row in refresh_tokens, see RefreshTokenService
+     */
+    public String generateRefreshToken(UserDetails userDetails, String tokenId) {
+        Instant now = Instant.now();
+        return buildToken(new HashMap<>(), userDetails, now, now.plusMillis(refreshExpiration), tokenId);
+    }
+
+    /**
+     * Generate JWT refresh token for user with a given expiration
+     * Used on rotation, where the replacement expires no later than the family it belongs to
      */
-    public String generateRefreshToken(UserDetails userDetails) {
-        return buildToken(new HashMap<>(), userDetails, refreshExpiration);
+    public String generateRefreshToken(UserDetails userDetails, String tokenId, Instant expiresAt) {
+        return buildToken(new HashMap<>(), userDetails, Instant.now(), expiresAt, tokenId);
     }
 
     /**
-     * Build JWT token with specified expiration
+     * Refresh token lifetime
+     */
+    public Duration getRefreshExpiration() {
+        return Duration.ofMillis(refreshExpiration);
+    }
+
+    /**
+     * Build JWT token with specified issue and expiration times
      * Uses TokenMapper for simple claim extraction
      */
     private String buildToken(
             Map<String, Object> extraClaims,
             UserDetails userDetails,
-            long expiration
+            Instant issuedAt,
+            Instant expiresAt,
+            String tokenId
     ) {
         // Cast to User entity (same pattern as other services)
         User user = (User) userDetails;
@@ -127,20 +168,18 @@ public class JwtService {
         List<String> authorities = tokenMapper.mapAuthorities(userDetails);
         String userRole = tokenMapper.mapUserRole(user);
 
-        Instant now = Instant.now();
-        Instant expiryDate = now.plusMillis(expiration);
-
         return Jwts
                 .builder()
                 .claims(extraClaims)
+                .id(tokenId)
                 .subject(user.getUsername())
                 .claim("authorities", authorities)
                 .claim("enabled", user.isEnabled())
                 .claim("userId", user.getId())
                 .claim("userRole", userRole)
                 .claim("fullName", user.getFullName())
-                .issuedAt(Date.from(now))
-                .expiration(Date.from(expiryDate))
+                .issuedAt(Date.from(issuedAt))
+                .expiration(Date.from(expiresAt))
                 .signWith(getSignInKey(), Jwts.SIG.HS256)
                 .compact();
     }
@@ -150,8 +189,9 @@ public class JwtService {
      */
     public boolean isTokenValid(String token, UserDetails userDetails) {
         try {
+            // Parsing already rejects expired tokens, so one parse covers both checks
             final String username = extractUsername(token);
-            return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
+            return username != null && username.equals(userDetails.getUsername());
         } catch (JwtException | IllegalArgumentException e) {
             log.warn("JWT token validation failed: {}", e.getMessage());
             return false;
@@ -175,10 +215,7 @@ public class JwtService {
      */
     private Claims extractAllClaims(String token) {
         try {
-            return Jwts
-                    .parser()
-                    .verifyWith(getSignInKey())
-                    .build()
+            return signingMaterial().parser()
                     .parseSignedClaims(token)
                     .getPayload();
         } catch (ExpiredJwtException e) {
@@ -199,12 +236,52 @@ public class JwtService {
         }
     }
 
+    /**
+     * Map verified claims to their typed form
+     */
+    private JwtClaims toJwtClaims(Claims claims) {
+        @SuppressWarnings("unchecked")
+        List<String> authorities = claims.get("authorities", List.class);
+        Number userId = claims.get("userId", Number.class);
+        Boolean enabled = claims.get("enabled", Boolean.class);
+        return new JwtClaims(
+                claims.getSubject(),
+                userId != null ? userId.longValue() : null,
+                claims.get("userRole", String.class),
+                authorities,
+                Boolean.TRUE.equals(enabled),
+                claims.get("fullName", String.class),
+                claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null,
+                claims.getExpiration() != null ? claims.getExpiration().toInstant() : null,
+                claims.getId());
+    }
+
     /**
      * Get signing key for JWT operations
      */
     private SecretKey getSignInKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
+        return signingMaterial().key();
+    }
+
+    /**
+     * Signing key and parser, decoded and built once
+     */
+    private SigningMaterial signingMaterial() {
+        SigningMaterial material = signingMaterial;
+        if (material == null) {
+            synchronized (this) {
+                material = signingMaterial;
+                if (material == null) {
+                    SecretKey key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+                    material = new SigningMaterial(key, Jwts.parser().verifyWith(key).build());
+                    signingMaterial = material;
+                }
+            }
+        }
+        return material;
+    }
+
+    private record SigningMaterial(SecretKey key, JwtParser parser) {
     }
 
     /**
@@ -0,0 +1,10 @@
+package com.example.management_selection_admin_seek.service;
+
+/**
+ * Application event raised by a ClientInvalidationBus when another instance created a client
+ *
+ * @param clientId id of the created client
+ * @param originNode instance that created it
+ */
+public record PeerClientCreatedEvent(Long clientId, String originNode) {
+}
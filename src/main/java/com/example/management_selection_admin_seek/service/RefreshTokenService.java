@@ -0,0 +1,237 @@
+package com.example.management_selection_admin_seek.service;
+
+import com.example.management_selection_admin_seek.entity.RefreshToken;
+import com.example.management_selection_admin_seek.entity.User;
+import com.example.management_selection_admin_seek.enums.Role;
+import com.example.management_selection_admin_seek.exception.InvalidTokenException;
+import com.example.management_selection_admin_seek.repository.RefreshTokenRepository;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Server-side refresh tokens with rotation and reuse detection
+ *
+ * Every refresh token carries a jti and has a row in refresh_tokens. A login starts a family; each
+ * refresh marks the presented token as replaced and issues the next one in the same family, so a
+ * refresh token is accepted once:
+ * - common path: one transaction with a conditional UPDATE of the presented row (by primary key) and
+ *   the INSERT of its replacement; the user is built from the verified claims, disabled users being
+ *   rejected through UserRevocationRegistry, so the users table is not read
+ * - the UPDATE matches nothing when the token is unknown, expired or already used; an already used
+ *   token means it was copied, so its whole family is revoked and the client has to log in again
+ * - a family lives as long as its first token: replacements expire no later than it (family_expires_at),
+ *   so the user and role taken from the claims are at most one refresh lifetime old and a changed
+ *   role or name is picked up at the next login
+ * - rotated and revoked ids go into an in-memory RevokedTokenFilter (Bloom filter), so a replayed
+ *   token is recognised with one primary key read instead of an update attempt
+ *
+ * The table is authoritative and the filter only an index over it: it is rebuilt from the table at
+ * startup and every app.auth.refresh-tokens.filter-rebuild-interval, after expired rows are purged.
+ *
+ * Metric: auth.refresh.tokens{outcome=issued|rotated|reused|rejected}
+ */
+@Service
+@Slf4j
+public class RefreshTokenService {
+
+    private static final String INVALID_TOKEN_MESSAGE = "Refresh token is invalid or expired";
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final JwtService jwtService;
+    private final UserRevocationRegistry userRevocationRegistry;
+    private final Clock clock;
+    private final int expectedRevokedTokens;
+    private final double falsePositiveRate;
+    private final Counter issued;
+    private final Counter rotated;
+    private final Counter reused;
+    private final Counter rejected;
+
+    private volatile RevokedTokenFilter revokedTokens;
+
+    public RefreshTokenService(
+            RefreshTokenRepository refreshTokenRepository,
+            JwtService jwtService,
+            UserRevocationRegistry userRevocationRegistry,
+            Clock clock,
+            MeterRegistry meterRegistry,
+            @Value("${app.auth.refresh-tokens.filter.expected-revoked:100000}") int expectedRevokedTokens,
+            @Value("${app.auth.refresh-tokens.filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.jwtService = jwtService;
+        this.userRevocationRegistry = userRevocationRegistry;
+        this.clock = clock;
+        this.expectedRevokedTokens = expectedRevokedTokens;
+        this.falsePositiveRate = falsePositiveRate;
+        this.revokedTokens = RevokedTokenFilter.create(expectedRevokedTokens, falsePositiveRate);
+        this.issued = outcomeCounter(meterRegistry, "issued");
+        this.rotated = outcomeCounter(meterRegistry, "rotated");
+        this.reused = outcomeCounter(meterRegistry, "reused");
+        this.rejected = outcomeCounter(meterRegistry, "rejected");
+    }
+
+    /**
+     * Issue the first refresh token of a new family, after a successful login
+     */
+    @Transactional
+    public String issue(User user) {
+        String tokenId = UUID.randomUUID().toString();
+        LocalDateTime now = LocalDateTime.now(clock);
+        refreshTokenRepository.insert(tokenId, user.getId(), UUID.randomUUID().toString(), expiresAt(now), now);
+        issued.increment();
+        return jwtService.generateRefreshToken(user, tokenId);
+    }
+
+    /**
+     * Accept a refresh token once and replace it with the next token of its family
+     * The replacement expires no later than the presented token, so a family is never extended
+     * Not rolled back on InvalidTokenException, so a family revoked on reuse stays revoked
+     *
+     * @param refreshToken refresh token presented by the client
+     * @return the token's user and the refresh token replacing it
+     * @throws InvalidTokenException when the token is invalid, expired, revoked or already used
+     */
+    @Transactional(noRollbackFor = InvalidTokenException.class)
+    public Rotation rotate(String refreshToken) {
+        JwtClaims claims = verify(refreshToken);
+        String tokenId = claims.tokenId();
+
+        if (revokedTokens.mightContain(tokenId)) {
+            Optional<RefreshToken> stored = refreshTokenRepository.findById(tokenId);
+            if (stored.isPresent() && stored.get().isRevoked()) {
+                throw reuseDetected(stored.get());
+            }
+            log.debug("Revoked token filter false positive for refresh token {}", tokenId);
+        }
+
+        User user = userFromClaims(claims);
+
+        String nextTokenId = UUID.randomUUID().toString();
+        LocalDateTime now = LocalDateTime.now(clock);
+        if (refreshTokenRepository.markRotated(tokenId, nextTokenId, now) == 0) {
+            Optional<RefreshToken> stored = refreshTokenRepository.findById(tokenId);
+            if (stored.isPresent() && stored.get().isRevoked()) {
+                throw reuseDetected(stored.get());
+            }
+            throw rejected("refresh token " + tokenId + " is unknown or expired");
+        }
+        // The presented token expires with its family at the latest; the table caps the row as well
+        LocalDateTime expiresAt = earliest(expiresAt(now), LocalDateTime.ofInstant(claims.expiresAt(), clock.getZone()));
+        refreshTokenRepository.insertReplacement(nextTokenId, tokenId, expiresAt, now);
+        revokedTokens.put(tokenId);
+        rotated.increment();
+
+        return new Rotation(user, jwtService.generateRefreshToken(user, nextTokenId,
+                expiresAt.atZone(clock.getZone()).toInstant()));
+    }
+
+    /**
+     * Purge expired tokens and rebuild the revoked token filter from the table
+     * A failed rebuild keeps the previous filter; rotation stays correct either way since the table decides
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.auth.refresh-tokens.filter-rebuild-interval:PT1H}")
+    public void rebuildRevokedTokenFilter() {
+        try {
+            LocalDateTime now = LocalDateTime.now(clock);
+            int purged = refreshTokenRepository.deleteExpiredBefore(now);
+            List<String> revokedIds = refreshTokenRepository.findRevokedIdsNotExpired(now);
+
+            // Leave room for the ids revoked until the next rebuild
+            RevokedTokenFilter rebuilt = RevokedTokenFilter.create(
+                    Math.max(expectedRevokedTokens, revokedIds.size() * 2), falsePositiveRate);
+            revokedIds.forEach(rebuilt::put);
+            revokedTokens = rebuilt;
+            log.info("Revoked refresh token filter rebuilt with {} tokens, {} expired tokens purged",
+                    revokedIds.size(), purged);
+        } catch (RuntimeException e) {
+            log.warn("Could not rebuild the revoked refresh token filter, keeping the previous one: {}", e.getMessage());
+        }
+    }
+
+    private JwtClaims verify(String refreshToken) {
+        JwtClaims claims;
+        try {
+            claims = jwtService.validateToken(refreshToken);
+        } catch (JwtException | IllegalArgumentException e) {
+            throw rejected("refresh token could not be verified");
+        }
+        if (claims.tokenId() == null) {
+            // Access tokens, and refresh tokens issued before tokens were tracked
+            throw rejected("refresh token has no id");
+        }
+        if (userRevocationRegistry.isRevoked(claims)) {
+            throw rejected("user " + claims.username() + " is disabled");
+        }
+        return claims;
+    }
+
+    /**
+     * The token's user, built from its verified claims like JwtAuthenticationFilter's principal
+     * The names are split back out of fullName at its first space, so getFullName (first and last name
+     * joined by a space) gives the next tokens the same fullName claim
+     */
+    private static User userFromClaims(JwtClaims claims) {
+        String fullName = claims.fullName();
+        int split = fullName == null ? -1 : fullName.indexOf(' ');
+        return User.builder()
+                .id(claims.userId())
+                .username(claims.username())
+                .role(Role.valueOf(claims.userRole()))
+                .enabled(claims.enabled())
+                .firstName(split < 0 ? fullName : fullName.substring(0, split))
+                .lastName(split < 0 ? null : fullName.substring(split + 1))
+                .build();
+    }
+
+    private InvalidTokenException reuseDetected(RefreshToken token) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        int revoked = refreshTokenRepository.revokeFamily(token.getFamilyId(), now);
+        refreshTokenRepository.findIdsByFamilyId(token.getFamilyId()).forEach(revokedTokens::put);
+        reused.increment();
+        log.warn("Refresh token {} of user {} was used twice, revoked {} tokens of family {}",
+                token.getId(), token.getUserId(), revoked, token.getFamilyId());
+        return new InvalidTokenException(INVALID_TOKEN_MESSAGE);
+    }
+
+    private InvalidTokenException rejected(String reason) {
+        rejected.increment();
+        log.debug("Refresh rejected: {}", reason);
+        return new InvalidTokenException(INVALID_TOKEN_MESSAGE);
+    }
+
+    private LocalDateTime expiresAt(LocalDateTime now) {
+        return now.plus(jwtService.getRefreshExpiration());
+    }
+
+    private static LocalDateTime earliest(LocalDateTime first, LocalDateTime second) {
+        return first.isBefore(second) ? first : second;
+    }
+
+    private static Counter outcomeCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("auth.refresh.tokens")
+                .description("Refresh tokens issued and presented, by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Result of a rotation: the user to issue an access token for and the replacing refresh token
+     */
+    public record Rotation(User user, String refreshToken) {
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.management_selection_admin_seek.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bloom filter of revoked refresh token ids
+ *
+ * Answers "was this token revoked?" from memory: a negative answer is certain, a positive one means the
+ * token may be revoked and refresh_tokens has to be read. It is sized for an expected number of ids and
+ * false positive rate; past that size the false positive rate grows, it never gives a false negative.
+ * Ids can only be added, so RefreshTokenService rebuilds it from the table to drop expired ones.
+ *
+ * Thread-safe: bits are set with atomic updates and never cleared.
+ */
+public final class RevokedTokenFilter {
+
+    private static final double LN2 = Math.log(2);
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashFunctions;
+
+    private RevokedTokenFilter(long bitCount, int hashFunctions) {
+        this.words = new AtomicLongArray(Math.toIntExact((bitCount + 63) / 64));
+        this.bitCount = bitCount;
+        this.hashFunctions = hashFunctions;
+    }
+
+    /**
+     * Empty filter sized for the expected number of ids at the given false positive rate
+     * bits = -n ln(p) / ln(2)^2, hash functions = bits / n * ln(2)
+     */
+    public static RevokedTokenFilter create(int expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("expectedInsertions must be positive");
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("falsePositiveRate must be between 0 and 1");
+        }
+        long bits = Math.max(64L, (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (LN2 * LN2)));
+        int hashes = Math.max(1, (int) Math.round((double) bits / expectedInsertions * LN2));
+        return new RevokedTokenFilter(bits, hashes);
+    }
+
+    public void put(String tokenId) {
+        long hash1 = hash(tokenId);
+        long hash2 = mix(hash1) | 1L;
+        for (int i = 0; i < hashFunctions; i++) {
+            long bit = Math.floorMod(hash1 + i * hash2, bitCount);
+            long mask = 1L << bit;
+            words.getAndAccumulate((int) (bit >>> 6), mask, (word, set) -> word | set);
+        }
+    }
+
+    public boolean mightContain(String tokenId) {
+        long hash1 = hash(tokenId);
+        long hash2 = mix(hash1) | 1L;
+        for (int i = 0; i < hashFunctions; i++) {
+            long bit = Math.floorMod(hash1 + i * hash2, bitCount);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    long bitCount() {
+        return bitCount;
+    }
+
+    int hashFunctions() {
+        return hashFunctions;
+    }
+
+    /**
+     * 64-bit FNV-1a of the id, the second hash is derived from it (double hashing)
+     */
+    private static long hash(String tokenId) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : tokenId.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    /**
+     * SplitMix64 finalizer, spreads FNV's weak low bits over the whole word
+     */
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+        value = (value ^ (value >>> 27)) * 0x94d049bb133111ebL;
+        return value ^ (value >>> 31);
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.management_selection_admin_seek.service;
+
+import com.example.management_selection_admin_seek.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * In-memory view of the users whose tokens must no longer be accepted
+ *
+ * Access tokens outlive changes to the account, so a principal rebuilt from token claims alone would
+ * keep a disabled user signed in until the token expires. The ids of disabled users are loaded at
+ * startup and reloaded every app.jwt.revocation.refresh-interval, which lets JwtAuthenticationFilter
+ * reject them with a set lookup instead of reading the user row on every request.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UserRevocationRegistry {
+
+    private final UserRepository userRepository;
+
+    private volatile Set<Long> disabledUserIds = Set.of();
+
+    /**
+     * Reload the disabled users
+     * A failed reload keeps the previous set, so a database outage does not re-admit anyone
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.jwt.revocation.refresh-interval:PT30S}")
+    public void refresh() {
+        try {
+            Set<Long> loaded = Set.copyOf(userRepository.findDisabledUserIds());
+            if (!loaded.equals(disabledUserIds)) {
+                log.info("Disabled users changed: {} users can no longer authenticate with a token", loaded.size());
+            }
+            disabledUserIds = loaded;
+        } catch (RuntimeException e) {
+            log.warn("Could not reload disabled users, keeping the previous {}: {}", disabledUserIds.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * Whether a verified token must be rejected because its user is, or was when it was issued, disabled
+     */
+    public boolean isRevoked(JwtClaims claims) {
+        return !claims.enabled() || (claims.userId() != null && disabledUserIds.contains(claims.userId()));
+    }
+}
@@ -9,13 +9,24 @@ import com.example.management_selection_admin_seek.mapper.UserMapper;
 import com.example.management_selection_admin_seek.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Locale;
+import java.util.Optional;
+
 /**
  * User Service - Authentication and User Management
  * 
@@ -26,12 +37,16 @@ import org.springframework.transaction.annotation.Transactional;
  * - Loads user details during authentication (login process)
  * - Used by JwtAuthenticationFilter to validate token ownership
  * - Provides user authorities (roles) for authorization decisions
+ * - Caches lookups in the "users" cache; methods changing a user evict its username and email
+ * 
+ * AS UserDetailsPasswordService:
+ * - Stores re-hashed passwords when the BCrypt cost was raised (transparent upgrade on login)
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 @Transactional
-public class UserService implements UserDetailsService {
+public class UserService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
@@ -39,45 +54,118 @@ public class UserService implements UserDetailsService {
 
     /**
      * Load user by username for Spring Security authentication
+     * Cached per identifier (username or email) in the short-lived "users" cache; a missing user is not cached
      */
     @Override
+    @Cacheable(value = "users", key = "#identifier", sync = true)
     @Transactional(readOnly = true)
     public UserDetails loadUserByUsername(String identifier) throws UsernameNotFoundException {
         log.debug("Loading user by identifier: {}", identifier);
         
-        User user = userRepository.findByUsernameOrEmail(identifier)
+        User user = findByIdentifier(identifier)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + identifier));
 
         log.debug("User loaded successfully: {}", user.getUsername());
         return user;
     }
 
+    /**
+     * Store a re-hashed password after a successful login
+     * Called by DaoAuthenticationProvider when the stored hash is weaker than the current BCrypt cost,
+     * with the password already encoded at that cost. A failed update is logged and the login still
+     * succeeds; the upgrade is retried on the next login.
+     * Runs outside any caller transaction: each repository call commits or rolls back on its own, so a
+     * failed write cannot mark the caller's transaction rollback-only, and the flush makes it fail here.
+     * Evicts both identifiers so the next lookup sees the new hash
+     */
+    @Override
+    @Caching(evict = {
+            @CacheEvict(value = "users", key = "#user.username"),
+            @CacheEvict(value = "users", key = "#user.email",
+                    condition = "#user instanceof T(com.example.management_selection_admin_seek.entity.User)")
+    })
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        try {
+            return userRepository.findByUsername(user.getUsername())
+                    .map(stored -> {
+                        stored.setPassword(newPassword);
+                        User saved = userRepository.saveAndFlush(stored);
+                        log.info("Password hash upgraded for user: {}", saved.getUsername());
+                        return (UserDetails) saved;
+                    })
+                    .orElse(user);
+        } catch (DataAccessException e) {
+            log.warn("Could not upgrade password hash for user {}: {}", user.getUsername(), e.getMessage());
+            return user;
+        }
+    }
+
+    /**
+     * Route the lookup to a single unique-index probe based on the identifier's shape
+     * Emails always contain '@' (validated at registration), so an identifier without it can only be a
+     * username. Usernames may contain '@' too, so an email-shaped identifier that matches no email is
+     * looked up as a username.
+     */
+    private Optional<User> findByIdentifier(String identifier) {
+        if (identifier == null || identifier.indexOf('@') < 0) {
+            return userRepository.findByUsername(identifier);
+        }
+        return userRepository.findByEmail(identifier)
+                .or(() -> userRepository.findByUsername(identifier));
+    }
+
     /**
      * Register a new user account
+     * Uniqueness is enforced by the uk_users_username / uk_users_email constraints: the user is inserted
+     * in a single statement and a violation is reported as DuplicateResourceException for that field,
+     * which also holds for concurrent registrations.
+     * Evicts both identifiers, so no stale lookup outlives the registration
      */
+    @Caching(evict = {
+            @CacheEvict(value = "users", key = "#request.username"),
+            @CacheEvict(value = "users", key = "#request.email")
+    })
     public RegisterResponse registerUser(RegisterRequest request) {
         log.info("Registering new user: {}", request.getUsername());
 
-        // Validate username and email are unique
-        if (userRepository.existsByUsername(request.getUsername())) {
-            throw new DuplicateResourceException("User", "username", request.getUsername());
-        }
-        if (userRepository.existsByEmail(request.getEmail())) {
-            throw new DuplicateResourceException("User", "email", request.getEmail());
-        }
-
         // Create new user entity using mapper
         User user = userMapper.toEntity(request);
         user.setPassword(passwordEncoder.encode(request.getPassword()));
         user.setRole(Role.USER);
         user.setEnabled(true);
 
-        // Save user to database
-        User savedUser = userRepository.save(user);
+        // Save user to database; flushing makes a unique violation surface here
+        User savedUser;
+        try {
+            savedUser = userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            throw toDuplicateResource(e, request);
+        }
         
         log.info("User registered successfully with ID: {}", savedUser.getId());
 
         // Build response using mapper
         return userMapper.toRegisterResponse(savedUser);
     }
+
+    /**
+     * Translate a unique-constraint violation on users into the field that is already taken
+     * The constraint name reported by the driver is used when available, else the database message
+     */
+    private RuntimeException toDuplicateResource(DataIntegrityViolationException e, RegisterRequest request) {
+        String violated = e.getCause() instanceof ConstraintViolationException violation
+                && violation.getConstraintName() != null
+                ? violation.getConstraintName()
+                : e.getMostSpecificCause().getMessage();
+        violated = violated == null ? "" : violated.toLowerCase(Locale.ROOT);
+
+        if (violated.contains(User.USERNAME_CONSTRAINT)) {
+            return new DuplicateResourceException("User", "username", request.getUsername());
+        }
+        if (violated.contains(User.EMAIL_CONSTRAINT)) {
+            return new DuplicateResourceException("User", "email", request.getEmail());
+        }
+        return e;
+    }
 }
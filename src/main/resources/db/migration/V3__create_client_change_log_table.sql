@@ -0,0 +1,14 @@
+-- Migration V3: Create client change log table
+-- Description: Append-only log of client changes polled by every instance to invalidate its local caches
+
+CREATE TABLE client_change_log (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    client_id BIGINT NOT NULL COMMENT 'Client that was created',
+    origin_node VARCHAR(64) NOT NULL COMMENT 'Instance that made the change',
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP COMMENT 'When the change was logged',
+    
+    PRIMARY KEY (id)
+);
+
+-- Index to purge entries past the retention period
+CREATE INDEX idx_client_change_log_created_at ON client_change_log(created_at);
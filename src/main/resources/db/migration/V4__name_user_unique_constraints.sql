@@ -0,0 +1,12 @@
+-- Migration V4: Name the users unique constraints
+-- Description: Registration relies on the unique constraints instead of pre-checks and maps a violation
+-- to the duplicated field by constraint name. The inline UNIQUE columns got generated index names, and
+-- idx_users_username / idx_users_email duplicated them, costing an extra index write per insert.
+
+ALTER TABLE users
+    DROP INDEX idx_users_username,
+    DROP INDEX idx_users_email,
+    DROP INDEX username,
+    DROP INDEX email,
+    ADD CONSTRAINT uk_users_username UNIQUE (username),
+    ADD CONSTRAINT uk_users_email UNIQUE (email);
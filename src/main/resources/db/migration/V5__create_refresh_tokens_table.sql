@@ -0,0 +1,20 @@
+-- Migration V5: Create refresh tokens table
+-- Description: One row per issued refresh token (keyed by its jti), used for rotation and reuse detection
+
+CREATE TABLE refresh_tokens (
+    id VARCHAR(36) NOT NULL COMMENT 'Token id (jti claim)',
+    user_id BIGINT NOT NULL COMMENT 'User the token was issued to',
+    family_id VARCHAR(36) NOT NULL COMMENT 'Login the token descends from, shared by all its rotations',
+    expires_at DATETIME NOT NULL COMMENT 'Token expiration (exp claim)',
+    revoked_at DATETIME NULL COMMENT 'When the token was rotated or revoked, NULL while usable',
+    replaced_by VARCHAR(36) NULL COMMENT 'Token issued when this one was rotated',
+    created_at DATETIME NOT NULL COMMENT 'When the token was issued',
+    
+    PRIMARY KEY (id)
+);
+
+-- Index to revoke a whole family when reuse is detected
+CREATE INDEX idx_refresh_tokens_family_id ON refresh_tokens(family_id);
+
+-- Index to load revoked tokens and purge expired ones
+CREATE INDEX idx_refresh_tokens_expires_at ON refresh_tokens(expires_at);
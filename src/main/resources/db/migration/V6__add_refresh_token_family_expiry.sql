@@ -0,0 +1,13 @@
+-- Migration V6: Bound the lifetime of a refresh token family
+-- Description: Rotation used to give each replacement a full new lifetime, so a family could be renewed
+-- forever while the user and role in its claims went stale. Every token of a family now expires no later
+-- than the first one did; existing rows get their own expiry as the family's.
+
+ALTER TABLE refresh_tokens
+    ADD COLUMN family_expires_at DATETIME NULL COMMENT 'Expiration of the login, no token of the family outlives it'
+    AFTER expires_at;
+
+UPDATE refresh_tokens SET family_expires_at = expires_at;
+
+ALTER TABLE refresh_tokens
+    MODIFY COLUMN family_expires_at DATETIME NOT NULL COMMENT 'Expiration of the login, no token of the family outlives it';
@@ -0,0 +1,70 @@
+package com.example.management_selection_admin_seek.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for BCryptCostCalibrator
+ * Verifies the cost chosen for a measured host speed stays within the target and the allowed range
+ */
+@DisplayName("BCryptCostCalibrator Tests")
+class BCryptCostCalibratorTest {
+
+    @Test
+    @DisplayName("Should raise the cost while the doubled estimate stays within the target")
+    void costFor_FastHost_ShouldRaiseCost() {
+        // Arrange - 30ms at cost 10: 60ms at 11, 120ms at 12, 240ms at 13, 480ms at 14
+
+        // Act
+        int cost = BCryptCostCalibrator.costFor(Duration.ofMillis(30), 10, 16, Duration.ofMillis(250));
+
+        // Assert
+        assertThat(cost).isEqualTo(13);
+    }
+
+    @Test
+    @DisplayName("Should keep the security floor on a host slower than the target")
+    void costFor_SlowHost_ShouldKeepMinCost() {
+        // Act
+        int cost = BCryptCostCalibrator.costFor(Duration.ofMillis(400), 10, 16, Duration.ofMillis(250));
+
+        // Assert
+        assertThat(cost).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("Should never exceed the maximum cost")
+    void costFor_VeryFastHost_ShouldCapAtMaxCost() {
+        // Act
+        int cost = BCryptCostCalibrator.costFor(Duration.ofNanos(1), 10, 14, Duration.ofMillis(250));
+
+        // Assert
+        assertThat(cost).isEqualTo(14);
+    }
+
+    @Test
+    @DisplayName("Should measure at the floor cost and use the median sample")
+    void calibrate_ShouldUseMedianOfSamplesAtMinCost() {
+        // Arrange - warm-up, then an outlier and two 60ms samples
+        List<Integer> measuredCosts = new ArrayList<>();
+        List<Duration> timings = new ArrayList<>(List.of(
+                Duration.ofMillis(500), Duration.ofMillis(60), Duration.ofMillis(900), Duration.ofMillis(60)));
+        BCryptCostCalibrator calibrator = new BCryptCostCalibrator(cost -> {
+            measuredCosts.add(cost);
+            return timings.remove(0);
+        });
+
+        // Act
+        int cost = calibrator.calibrate(Duration.ofMillis(250), 10, 16);
+
+        // Assert - 60ms at cost 10 allows cost 12 (240ms)
+        assertThat(cost).isEqualTo(12);
+        assertThat(measuredCosts).hasSize(BCryptCostCalibrator.SAMPLES + 1).containsOnly(10);
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.management_selection_admin_seek.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for CacheConfig
+ * Verifies per-cache Caffeine policies and statistics recording
+ */
+@DisplayName("CacheConfig Tests")
+class CacheConfigTest {
+
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new CacheConfig().cacheManager(
+                "maximumSize=500,recordStats",
+                Duration.ofHours(12),
+                Duration.ofMinutes(1),
+                Duration.ofMinutes(10),
+                "maximumSize=16,expireAfterWrite=5m,recordStats",
+                Duration.ofSeconds(30),
+                Duration.ofMinutes(5),
+                "maximumSize=1000,expireAfterWrite=2m,recordStats",
+                "maximumSize=1000,expireAfterWrite=10m,recordStats",
+                Clock.systemUTC(),
+                new SimpleMeterRegistry(),
+                Runnable::run,
+                (cacheName, key) -> {
+                    throw new IllegalStateException("No reload expected");
+                });
+    }
+
+    @Test
+    @DisplayName("Should register clients, client-metrics and users caches with their own policies")
+    void cacheManager_ShouldApplyPerCachePolicies() {
+        // Act
+        Cache<Object, Object> clients = nativeCache(CacheConfig.CLIENTS_CACHE);
+        Cache<Object, Object> metrics = nativeCache(CacheConfig.CLIENT_METRICS_CACHE);
+        Cache<Object, Object> users = nativeCache(CacheConfig.USERS_CACHE);
+
+        // Assert
+        assertThat(cacheManager.getCacheNames())
+                .contains(CacheConfig.CLIENTS_CACHE, CacheConfig.CLIENT_METRICS_CACHE, CacheConfig.USERS_CACHE);
+        assertThat(clients.policy().eviction()).hasValueSatisfying(
+                eviction -> assertThat(eviction.getMaximum()).isEqualTo(500L));
+        assertThat(metrics.policy().eviction()).hasValueSatisfying(
+                eviction -> assertThat(eviction.getMaximum()).isEqualTo(16L));
+        assertThat(metrics.policy().expireAfterWrite()).hasValueSatisfying(
+                expiration -> assertThat(expiration.getExpiresAfter(TimeUnit.MINUTES)).isEqualTo(5L));
+        assertThat(clients.policy().expireVariably()).isPresent();
+        assertThat(users.policy().expireAfterWrite()).hasValueSatisfying(
+                expiration -> assertThat(expiration.getExpiresAfter(TimeUnit.MINUTES)).isEqualTo(2L));
+    }
+
+    @Test
+    @DisplayName("Should record hit and miss statistics")
+    void cacheManager_ShouldRecordStats() {
+        // Arrange
+        org.springframework.cache.Cache metrics = cacheManager.getCache(CacheConfig.CLIENT_METRICS_CACHE);
+
+        // Act
+        metrics.get("statistics");
+        metrics.put("statistics", "value");
+        metrics.get("statistics");
+
+        // Assert
+        Cache<Object, Object> nativeCache = nativeCache(CacheConfig.CLIENT_METRICS_CACHE);
+        assertThat(nativeCache.policy().isRecordingStats()).isTrue();
+        assertThat(nativeCache.stats().hitCount()).isEqualTo(1L);
+        assertThat(nativeCache.stats().missCount()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Should reject null values")
+    void cacheManager_ShouldNotAllowNullValues() {
+        // Arrange
+        org.springframework.cache.Cache clients = cacheManager.getCache(CacheConfig.CLIENTS_CACHE);
+
+        // Act & Assert
+        assertThatThrownBy(() -> clients.put("all-clients", null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Cache<Object, Object> nativeCache(String name) {
+        return ((CaffeineCache) cacheManager.getCache(name)).getNativeCache();
+    }
+}
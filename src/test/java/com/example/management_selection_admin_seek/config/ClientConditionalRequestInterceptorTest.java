@@ -0,0 +1,112 @@
+package com.example.management_selection_admin_seek.config;
+
+import com.example.management_selection_admin_seek.controller.ClientController;
+import com.example.management_selection_admin_seek.enums.ClientExportFormat;
+import com.example.management_selection_admin_seek.service.ClientDataVersion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ClientConditionalRequestInterceptor
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ClientConditionalRequestInterceptor Tests")
+class ClientConditionalRequestInterceptorTest {
+
+    private static final ClientDataVersion.Validators VALIDATORS =
+            new ClientDataVersion.Validators("W/\"clients-3-1758276000000-20350\"", 1758276000000L);
+
+    @Mock
+    private ClientDataVersion clientDataVersion;
+
+    @InjectMocks
+    private ClientConditionalRequestInterceptor interceptor;
+
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() {
+        request = new MockHttpServletRequest("GET", "/api/client/metrics");
+        response = new MockHttpServletResponse();
+    }
+
+    @Test
+    @DisplayName("Should answer 304 without calling the handler when the ETag matches")
+    void preHandle_MatchingETag_ShouldReturnNotModified() throws Exception {
+        // Arrange
+        when(clientDataVersion.currentValidators()).thenReturn(VALIDATORS);
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, VALIDATORS.eTag());
+
+        // Act
+        boolean proceed = interceptor.preHandle(request, response, handler("getClientMetrics"));
+
+        // Assert
+        assertThat(proceed).isFalse();
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo(VALIDATORS.eTag());
+    }
+
+    @Test
+    @DisplayName("Should set validators and proceed when the data changed")
+    void preHandle_StaleETag_ShouldProceedWithValidators() throws Exception {
+        // Arrange
+        when(clientDataVersion.currentValidators()).thenReturn(VALIDATORS);
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "W/\"clients-2-1758270000000-20350\"");
+
+        // Act
+        boolean proceed = interceptor.preHandle(request, response, handler("getClientMetrics"));
+
+        // Assert
+        assertThat(proceed).isTrue();
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo(VALIDATORS.eTag());
+        assertThat(response.getDateHeader(HttpHeaders.LAST_MODIFIED)).isEqualTo(VALIDATORS.lastModified());
+    }
+
+    @Test
+    @DisplayName("Should ignore handlers not marked as client data versioned")
+    void preHandle_UnmarkedHandler_ShouldProceed() throws Exception {
+        // Arrange
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, VALIDATORS.eTag());
+
+        // Act
+        boolean proceed = interceptor.preHandle(request, response, handler("exportClients", ClientExportFormat.class));
+
+        // Assert
+        assertThat(proceed).isTrue();
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isNull();
+        verifyNoInteractions(clientDataVersion);
+    }
+
+    @Test
+    @DisplayName("Should proceed without validators until the data version is loaded")
+    void preHandle_NotInitialized_ShouldProceed() throws Exception {
+        // Arrange
+        when(clientDataVersion.currentValidators()).thenReturn(null);
+
+        // Act
+        boolean proceed = interceptor.preHandle(request, response, handler("getClientMetrics"));
+
+        // Assert
+        assertThat(proceed).isTrue();
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isNull();
+    }
+
+    private HandlerMethod handler(String methodName, Class<?>... parameterTypes) throws NoSuchMethodException {
+        return new HandlerMethod(new ClientController(null), ClientController.class.getMethod(methodName, parameterTypes));
+    }
+}
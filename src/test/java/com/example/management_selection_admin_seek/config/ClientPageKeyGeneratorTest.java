@@ -0,0 +1,80 @@
+package com.example.management_selection_admin_seek.config;
+
+import com.example.management_selection_admin_seek.service.ClientService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.lang.reflect.Method;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for ClientPageKeyGenerator
+ * Verifies value-based page keys and the bounds on what may be cached
+ */
+@DisplayName("ClientPageKeyGenerator Tests")
+class ClientPageKeyGeneratorTest {
+
+    private ClientPageKeyGenerator keyGenerator;
+    private Method pageMethod;
+    private Method sliceMethod;
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        keyGenerator = new ClientPageKeyGenerator(10);
+        pageMethod = ClientService.class.getMethod("getAllClientsWithDetails", Pageable.class);
+        sliceMethod = ClientService.class.getMethod("getClientsSlice", Pageable.class);
+    }
+
+    @Test
+    @DisplayName("Should generate equal keys for equal requests")
+    void generate_EqualRequests_ShouldProduceEqualKeys() {
+        // Act
+        Object first = keyGenerator.generate(this, pageMethod, PageRequest.of(2, 20, Sort.by("age").descending()));
+        Object second = keyGenerator.generate(this, pageMethod, PageRequest.of(2, 20, Sort.by(Sort.Direction.DESC, "age")));
+
+        // Assert
+        assertThat(first).isEqualTo(second).hasSameHashCodeAs(second);
+        assertThat(first).isEqualTo(new ClientPageKey(ClientPageKey.View.PAGE, 2, 20, Sort.by(Sort.Direction.DESC, "age")));
+    }
+
+    @Test
+    @DisplayName("Should keep page and slice entries apart")
+    void generate_PageAndSlice_ShouldProduceDifferentKeys() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 20);
+
+        // Act
+        Object pageKey = keyGenerator.generate(this, pageMethod, pageable);
+        Object sliceKey = keyGenerator.generate(this, sliceMethod, pageable);
+
+        // Assert
+        assertThat(pageKey).isNotEqualTo(sliceKey);
+        assertThat(((ClientPageKey) sliceKey).view()).isEqualTo(ClientPageKey.View.SLICE);
+    }
+
+    @Test
+    @DisplayName("Should cache shallow pages sorted by whitelisted columns")
+    void isCacheable_ShallowWhitelistedSort_ShouldBeTrue() {
+        assertThat(keyGenerator.isCacheable(PageRequest.of(0, 20))).isTrue();
+        assertThat(keyGenerator.isCacheable(PageRequest.of(10, 20, Sort.by("lastName", "id")))).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should not cache pages deeper than the configured depth")
+    void isCacheable_DeepPage_ShouldBeFalse() {
+        assertThat(keyGenerator.isCacheable(PageRequest.of(11, 20))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should not cache unknown sort properties or long sort chains")
+    void isCacheable_UnboundedSort_ShouldBeFalse() {
+        assertThat(keyGenerator.isCacheable(PageRequest.of(0, 20, Sort.by("password")))).isFalse();
+        assertThat(keyGenerator.isCacheable(PageRequest.of(0, 20, Sort.by("age", "name", "id")))).isFalse();
+        assertThat(keyGenerator.isCacheable(Pageable.unpaged())).isFalse();
+    }
+}
@@ -0,0 +1,224 @@
+package com.example.management_selection_admin_seek.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for CoalescingCaffeineCache
+ * Verifies single-flight loading and the coalesced-requests metric
+ */
+@DisplayName("CoalescingCaffeineCache Tests")
+class CoalescingCaffeineCacheTest {
+
+    private static final int WAITERS = 7;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CoalescingCaffeineCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new CoalescingCaffeineCache("client-metrics",
+                Caffeine.newBuilder().recordStats().build(), false, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should run one load per key and let concurrent callers wait for it")
+    void get_ConcurrentMisses_ShouldLoadOnce() throws Exception {
+        // Arrange
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoad = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(WAITERS + 1);
+
+        try {
+            // Act - leader blocks inside the loader while the others arrive
+            Future<String> leader = executor.submit(() -> cache.get("statistics", () -> {
+                loads.incrementAndGet();
+                loadStarted.countDown();
+                releaseLoad.await(5, TimeUnit.SECONDS);
+                return "metrics";
+            }));
+            assertThat(loadStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+            List<Future<String>> waiters = new ArrayList<>();
+            for (int i = 0; i < WAITERS; i++) {
+                waiters.add(executor.submit(() -> cache.get("statistics", () -> {
+                    loads.incrementAndGet();
+                    return "duplicate";
+                })));
+            }
+            waitForCoalescedRequests(WAITERS);
+            releaseLoad.countDown();
+
+            // Assert
+            assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("metrics");
+            for (Future<String> waiter : waiters) {
+                assertThat(waiter.get(5, TimeUnit.SECONDS)).isEqualTo("metrics");
+            }
+            assertThat(loads).hasValue(1);
+            assertThat(cache.getInFlightCount()).isZero();
+            assertThat(cache.getNativeCache().stats().loadCount()).isEqualTo(1L);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should serve cached values without counting them as coalesced")
+    void get_Hit_ShouldNotLoadOrCoalesce() {
+        // Arrange
+        cache.put("statistics", "metrics");
+
+        // Act
+        String value = cache.get("statistics", () -> "reloaded");
+
+        // Assert
+        assertThat(value).isEqualTo("metrics");
+        assertThat(coalescedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should propagate a failed load and cache nothing")
+    void get_LoaderFails_ShouldPropagateAndNotCache() {
+        // Act & Assert
+        assertThatThrownBy(() -> cache.get("statistics", () -> {
+            throw new IllegalStateException("database down");
+        })).isInstanceOf(Cache.ValueRetrievalException.class)
+                .hasRootCauseInstanceOf(IllegalStateException.class);
+
+        assertThat(cache.get("statistics")).isNull();
+        assertThat(cache.getInFlightCount()).isZero();
+    }
+
+    private void waitForCoalescedRequests(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (coalescedCount() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(coalescedCount()).isEqualTo(expected);
+    }
+
+    private double coalescedCount() {
+        return meterRegistry.get("cache.coalesced.requests").tag("cache", "client-metrics").counter().count();
+    }
+
+    @Test
+    @DisplayName("Should serve a stale value immediately and replace it with a background refresh by the reloader")
+    void get_StaleValue_ShouldServeStaleAndRefresh() {
+        // Arrange - direct executor runs the refresh inline
+        AtomicLong nanos = new AtomicLong();
+        CoalescingCaffeineCache swrCache = staleWhileRevalidateCache(nanos, Runnable::run);
+        swrCache.put("statistics", "v1");
+        nanos.addAndGet(Duration.ofMinutes(2).toNanos());
+
+        // Act
+        String served = swrCache.get("statistics", () -> "from the request");
+
+        // Assert - the request's loader is never re-run after it returned
+        assertThat(served).isEqualTo("v1");
+        assertThat(swrCache.get("statistics").get()).isEqualTo("reloaded statistics");
+        assertThat(meterRegistry.get("cache.refreshes").tag("result", "success").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("cache.served.value.age").timer().max(TimeUnit.SECONDS)).isEqualTo(120.0);
+    }
+
+    @Test
+    @DisplayName("Should serve a fresh value without refreshing it")
+    void get_FreshValue_ShouldNotRefresh() {
+        // Arrange
+        AtomicLong nanos = new AtomicLong();
+        AtomicInteger refreshes = new AtomicInteger();
+        CoalescingCaffeineCache swrCache = staleWhileRevalidateCache(nanos, task -> refreshes.incrementAndGet());
+        swrCache.put("statistics", "v1");
+        nanos.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        // Act
+        String served = swrCache.get("statistics", () -> "v2");
+
+        // Assert
+        assertThat(served).isEqualTo("v1");
+        assertThat(refreshes).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("Should load synchronously once a value exceeds the maximum staleness")
+    void get_BeyondMaxStaleness_ShouldLoadSynchronously() {
+        // Arrange
+        AtomicLong nanos = new AtomicLong();
+        AtomicInteger refreshes = new AtomicInteger();
+        CoalescingCaffeineCache swrCache = staleWhileRevalidateCache(nanos, task -> refreshes.incrementAndGet());
+        swrCache.put("statistics", "v1");
+        nanos.addAndGet(Duration.ofMinutes(30).toNanos());
+
+        // Act
+        String served = swrCache.get("statistics", () -> "v2");
+
+        // Assert
+        assertThat(served).isEqualTo("v2");
+        assertThat(refreshes).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("Should discard a background refresh when the entry was updated meanwhile")
+    void get_EntryUpdatedDuringRefresh_ShouldDiscardRefresh() {
+        // Arrange - queued refresh runs after an in-place update
+        AtomicLong nanos = new AtomicLong();
+        List<Runnable> queued = new ArrayList<>();
+        CoalescingCaffeineCache swrCache = staleWhileRevalidateCache(nanos, queued::add);
+        swrCache.put("statistics", "v1");
+        nanos.addAndGet(Duration.ofMinutes(2).toNanos());
+        swrCache.get("statistics", () -> "refreshed");
+
+        // Act
+        swrCache.put("statistics", "updated");
+        queued.forEach(Runnable::run);
+
+        // Assert
+        assertThat(swrCache.get("statistics").get()).isEqualTo("updated");
+        assertThat(meterRegistry.get("cache.refreshes").tag("result", "discarded").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should rewrite entries in place keeping their write time")
+    void updateEntries_ShouldRewriteAndEvict() {
+        // Arrange
+        AtomicLong nanos = new AtomicLong();
+        CoalescingCaffeineCache swrCache = staleWhileRevalidateCache(nanos, Runnable::run);
+        swrCache.put("page-0", new PageImpl<>(List.of("a"), PageRequest.of(0, 1), 1));
+        swrCache.put("all-clients", List.of("a"));
+
+        // Act
+        swrCache.updateEntries((key, value) -> "page-0".equals(key) ? "rewritten" : null);
+
+        // Assert
+        assertThat(swrCache.get("page-0").get()).isEqualTo("rewritten");
+        assertThat(swrCache.get("all-clients")).isNull();
+    }
+
+    private CoalescingCaffeineCache staleWhileRevalidateCache(AtomicLong nanos, Executor executor) {
+        return new CoalescingCaffeineCache("clients", Caffeine.newBuilder().recordStats().build(), false, meterRegistry,
+                new CoalescingCaffeineCache.StaleWhileRevalidate(Duration.ofMinutes(1), Duration.ofMinutes(10), executor,
+                        key -> "reloaded " + key),
+                nanos::get);
+    }
+}
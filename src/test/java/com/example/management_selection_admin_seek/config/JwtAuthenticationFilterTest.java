@@ -2,9 +2,12 @@ package com.example.management_selection_admin_seek.config;
 
 import com.example.management_selection_admin_seek.entity.User;
 import com.example.management_selection_admin_seek.enums.Role;
+import com.example.management_selection_admin_seek.service.JwtClaims;
 import com.example.management_selection_admin_seek.service.JwtService;
+import com.example.management_selection_admin_seek.service.UserRevocationRegistry;
 import com.example.management_selection_admin_seek.service.UserService;
 import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -15,11 +18,17 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
@@ -41,6 +50,13 @@ class JwtAuthenticationFilterTest {
     @Mock
     private UserService userService;
 
+    @Mock
+    private UserRevocationRegistry userRevocationRegistry;
+
+    @Spy
+    private VerifiedTokenCache verifiedTokenCache =
+            new VerifiedTokenCache(new SimpleMeterRegistry(), Clock.systemUTC(), false, 100, Duration.ofMinutes(15));
+
     @Mock
     private HttpServletRequest request;
 
@@ -162,18 +178,16 @@ class JwtAuthenticationFilterTest {
     void doFilterInternal_ValidToken_ShouldAuthenticateUser() throws ServletException, IOException {
         // Arrange
         when(request.getHeader("Authorization")).thenReturn("Bearer " + validToken);
-        when(jwtService.extractUsername(validToken)).thenReturn("testuser");
+        when(jwtService.validateToken(validToken)).thenReturn(claimsFor("testuser"));
         when(userService.loadUserByUsername("testuser")).thenReturn(testUser);
-        when(jwtService.isTokenValid(validToken, testUser)).thenReturn(true);
 
         // Act
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
         // Assert
         verify(filterChain).doFilter(request, response);
-        verify(jwtService).extractUsername(validToken);
+        verify(jwtService).validateToken(validToken);
         verify(userService).loadUserByUsername("testuser");
-        verify(jwtService).isTokenValid(validToken, testUser);
 
         // Verify authentication is set
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
@@ -183,22 +197,21 @@ class JwtAuthenticationFilterTest {
     }
 
     @Test
-    @DisplayName("Should not authenticate when JWT token is invalid")
-    void doFilterInternal_InvalidToken_ShouldNotAuthenticate() throws ServletException, IOException {
+    @DisplayName("Should not authenticate when the loaded user does not match the token subject")
+    void doFilterInternal_SubjectMismatch_ShouldNotAuthenticate() throws ServletException, IOException {
         // Arrange
+        User otherUser = User.builder().id(2L).username("otheruser").role(Role.USER).enabled(true).build();
         when(request.getHeader("Authorization")).thenReturn("Bearer " + validToken);
-        when(jwtService.extractUsername(validToken)).thenReturn("testuser");
-        when(userService.loadUserByUsername("testuser")).thenReturn(testUser);
-        when(jwtService.isTokenValid(validToken, testUser)).thenReturn(false);
+        when(jwtService.validateToken(validToken)).thenReturn(claimsFor("testuser"));
+        when(userService.loadUserByUsername("testuser")).thenReturn(otherUser);
 
         // Act
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
         // Assert
         verify(filterChain).doFilter(request, response);
-        verify(jwtService).extractUsername(validToken);
+        verify(jwtService).validateToken(validToken);
         verify(userService).loadUserByUsername("testuser");
-        verify(jwtService).isTokenValid(validToken, testUser);
 
         // Verify authentication is NOT set
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
@@ -210,14 +223,14 @@ class JwtAuthenticationFilterTest {
     void doFilterInternal_NoUsername_ShouldContinueFilterChain() throws ServletException, IOException {
         // Arrange
         when(request.getHeader("Authorization")).thenReturn("Bearer " + validToken);
-        when(jwtService.extractUsername(validToken)).thenReturn(null);
+        when(jwtService.validateToken(validToken)).thenReturn(claimsFor(null));
 
         // Act
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
         // Assert
         verify(filterChain).doFilter(request, response);
-        verify(jwtService).extractUsername(validToken);
+        verify(jwtService).validateToken(validToken);
         verifyNoInteractions(userService);
         assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
     }
@@ -227,7 +240,7 @@ class JwtAuthenticationFilterTest {
     void doFilterInternal_AlreadyAuthenticated_ShouldSkipAuthentication() throws ServletException, IOException {
         // Arrange
         when(request.getHeader("Authorization")).thenReturn("Bearer " + validToken);
-        when(jwtService.extractUsername(validToken)).thenReturn("testuser");
+        when(jwtService.validateToken(validToken)).thenReturn(claimsFor("testuser"));
         
         // Set existing authentication
         Authentication existingAuth = mock(Authentication.class);
@@ -238,7 +251,7 @@ class JwtAuthenticationFilterTest {
 
         // Assert
         verify(filterChain).doFilter(request, response);
-        verify(jwtService).extractUsername(validToken);
+        verify(jwtService).validateToken(validToken);
         verifyNoInteractions(userService);
         
         // Verify existing authentication is preserved
@@ -250,14 +263,14 @@ class JwtAuthenticationFilterTest {
     void doFilterInternal_JwtException_ShouldClearContextAndContinue() throws ServletException, IOException {
         // Arrange
         when(request.getHeader("Authorization")).thenReturn("Bearer " + validToken);
-        when(jwtService.extractUsername(validToken)).thenThrow(new JwtException("Invalid JWT"));
+        when(jwtService.validateToken(validToken)).thenThrow(new JwtException("Invalid JWT"));
 
         // Act
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
         // Assert
         verify(filterChain).doFilter(request, response);
-        verify(jwtService).extractUsername(validToken);
+        verify(jwtService).validateToken(validToken);
         verifyNoInteractions(userService);
         
         // Verify security context is cleared
@@ -269,14 +282,14 @@ class JwtAuthenticationFilterTest {
     void doFilterInternal_GeneralException_ShouldClearContextAndContinue() throws ServletException, IOException {
         // Arrange
         when(request.getHeader("Authorization")).thenReturn("Bearer " + validToken);
-        when(jwtService.extractUsername(validToken)).thenThrow(new RuntimeException("Unexpected error"));
+        when(jwtService.validateToken(validToken)).thenThrow(new RuntimeException("Unexpected error"));
 
         // Act
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
         // Assert
         verify(filterChain).doFilter(request, response);
-        verify(jwtService).extractUsername(validToken);
+        verify(jwtService).validateToken(validToken);
         verifyNoInteractions(userService);
         
         // Verify security context is cleared
@@ -292,8 +305,8 @@ class JwtAuthenticationFilterTest {
         // Act - Use reflection to test private method (or test through doFilterInternal)
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
-        // Assert - Verify token was processed (jwtService.extractUsername was called)
-        verify(jwtService).extractUsername(validToken);
+        // Assert - Verify token was processed (jwtService.validateToken was called)
+        verify(jwtService).validateToken(validToken);
     }
 
     @Test
@@ -321,7 +334,7 @@ class JwtAuthenticationFilterTest {
 
         // Assert
         verify(filterChain).doFilter(request, response);
-        verify(jwtService).extractUsername(""); // Empty string after "Bearer "
+        verify(jwtService).validateToken(""); // Empty string after "Bearer "
     }
 
     @Test
@@ -329,9 +342,8 @@ class JwtAuthenticationFilterTest {
     void doFilterInternal_ShouldAlwaysCallFilterChain() throws ServletException, IOException {
         // Arrange - Different scenarios
         when(request.getHeader("Authorization")).thenReturn("Bearer " + validToken);
-        when(jwtService.extractUsername(validToken)).thenReturn("testuser");
+        when(jwtService.validateToken(validToken)).thenReturn(claimsFor("testuser"));
         when(userService.loadUserByUsername("testuser")).thenReturn(testUser);
-        when(jwtService.isTokenValid(validToken, testUser)).thenReturn(true);
 
         // Act
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -348,20 +360,88 @@ class JwtAuthenticationFilterTest {
         
         // Arrange
         when(request.getHeader("Authorization")).thenReturn("Bearer " + realisticToken);
-        when(jwtService.extractUsername(realisticToken)).thenReturn("testuser");
+        when(jwtService.validateToken(realisticToken)).thenReturn(claimsFor("testuser"));
         when(userService.loadUserByUsername("testuser")).thenReturn(testUser);
-        when(jwtService.isTokenValid(realisticToken, testUser)).thenReturn(true);
 
         // Act
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
         // Assert
-        verify(jwtService).extractUsername(realisticToken);
+        verify(jwtService).validateToken(realisticToken);
         verify(userService).loadUserByUsername("testuser");
-        verify(jwtService).isTokenValid(realisticToken, testUser);
         
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
         assertThat(auth).isNotNull();
         assertThat(auth.getPrincipal()).isEqualTo(testUser);
     }
+
+    @Test
+    @DisplayName("Should build the principal from token claims without loading the user in stateless mode")
+    void doFilterInternal_StatelessPrincipal_ShouldNotLoadUser() throws ServletException, IOException {
+        // Arrange
+        ReflectionTestUtils.setField(jwtAuthenticationFilter, "statelessPrincipal", true);
+        JwtClaims claims = claimsFor("testuser");
+        when(request.getHeader("Authorization")).thenReturn("Bearer " + validToken);
+        when(jwtService.validateToken(validToken)).thenReturn(claims);
+        when(userRevocationRegistry.isRevoked(claims)).thenReturn(false);
+
+        // Act
+        jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+        // Assert
+        verify(filterChain).doFilter(request, response);
+        verifyNoInteractions(userService);
+
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        assertThat(auth).isNotNull();
+        assertThat(auth.getPrincipal()).isInstanceOf(User.class);
+        User principal = (User) auth.getPrincipal();
+        assertThat(principal.getId()).isEqualTo(1L);
+        assertThat(principal.getUsername()).isEqualTo("testuser");
+        assertThat(auth.getAuthorities()).extracting("authority").containsExactly("ROLE_USER");
+    }
+
+    @Test
+    @DisplayName("Should not authenticate a disabled user in stateless mode")
+    void doFilterInternal_StatelessPrincipal_RevokedUser_ShouldNotAuthenticate() throws ServletException, IOException {
+        // Arrange
+        ReflectionTestUtils.setField(jwtAuthenticationFilter, "statelessPrincipal", true);
+        JwtClaims claims = claimsFor("testuser");
+        when(request.getHeader("Authorization")).thenReturn("Bearer " + validToken);
+        when(jwtService.validateToken(validToken)).thenReturn(claims);
+        when(userRevocationRegistry.isRevoked(claims)).thenReturn(true);
+
+        // Act
+        jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+        // Assert
+        verify(filterChain).doFilter(request, response);
+        verifyNoInteractions(userService);
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should not authenticate a refresh token presented as an access token")
+    void doFilterInternal_RefreshToken_ShouldNotAuthenticate() throws ServletException, IOException {
+        // Arrange
+        Instant now = Instant.now();
+        JwtClaims refreshClaims = new JwtClaims("testuser", 1L, "USER", List.of("ROLE_USER"), true, "Test User",
+                now, now.plusSeconds(604800), "jti-1");
+        when(request.getHeader("Authorization")).thenReturn("Bearer " + validToken);
+        when(jwtService.validateToken(validToken)).thenReturn(refreshClaims);
+
+        // Act
+        jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+        // Assert
+        verify(filterChain).doFilter(request, response);
+        verifyNoInteractions(userService, userRevocationRegistry);
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    private static JwtClaims claimsFor(String username) {
+        Instant now = Instant.now();
+        return new JwtClaims(username, 1L, "USER", List.of("ROLE_USER"), true, "Test User",
+                now, now.plusSeconds(3600), null);
+    }
 }
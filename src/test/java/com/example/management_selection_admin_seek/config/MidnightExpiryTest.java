@@ -0,0 +1,62 @@
+package com.example.management_selection_admin_seek.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for MidnightExpiry
+ * Verifies that cached entries never outlive the current day in the configured zone
+ */
+@DisplayName("MidnightExpiry Tests")
+class MidnightExpiryTest {
+
+    private static final ZoneId BOGOTA = ZoneId.of("America/Bogota");
+
+    @Test
+    @DisplayName("Should expire at midnight when it comes before the TTL")
+    void expireAfterCreate_MidnightBeforeTtl_ShouldExpireAtMidnight() {
+        // Arrange - 22:30 in Bogota (03:30 UTC next day), 12h TTL
+        Clock clock = Clock.fixed(Instant.parse("2025-09-20T03:30:00Z"), BOGOTA);
+        MidnightExpiry expiry = new MidnightExpiry(clock, Duration.ofHours(12));
+
+        // Act
+        long nanos = expiry.expireAfterCreate("page-0-20-UNSORTED", "value", 0L);
+
+        // Assert - 1h30m left until Bogota midnight
+        assertThat(Duration.ofNanos(nanos)).isEqualTo(Duration.ofMinutes(90));
+    }
+
+    @Test
+    @DisplayName("Should expire after the TTL when it comes before midnight")
+    void expireAfterCreate_TtlBeforeMidnight_ShouldUseTtl() {
+        // Arrange - 08:00 in Bogota, 1h TTL
+        Clock clock = Clock.fixed(Instant.parse("2025-09-19T13:00:00Z"), BOGOTA);
+        MidnightExpiry expiry = new MidnightExpiry(clock, Duration.ofHours(1));
+
+        // Act
+        long nanos = expiry.expireAfterCreate("all-clients", "value", 0L);
+
+        // Assert
+        assertThat(Duration.ofNanos(nanos)).isEqualTo(Duration.ofHours(1));
+    }
+
+    @Test
+    @DisplayName("Should restart the lifetime on update and keep it on read")
+    void expireAfterUpdateAndRead_ShouldFollowWritePolicy() {
+        // Arrange
+        Clock clock = Clock.fixed(Instant.parse("2025-09-19T13:00:00Z"), BOGOTA);
+        MidnightExpiry expiry = new MidnightExpiry(clock, Duration.ofHours(1));
+        long remaining = Duration.ofMinutes(10).toNanos();
+
+        // Act & Assert
+        assertThat(expiry.expireAfterUpdate("key", "value", 0L, remaining)).isEqualTo(Duration.ofHours(1).toNanos());
+        assertThat(expiry.expireAfterRead("key", "value", 0L, remaining)).isEqualTo(remaining);
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.management_selection_admin_seek.config;
+
+import com.example.management_selection_admin_seek.controller.ClientController;
+import com.example.management_selection_admin_seek.dto.ClientMetricsResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.StringHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for PreEncodedJsonResponseAdvice
+ * Verifies bodies are serialized once per instance and written with an ETag, gzipped when accepted
+ */
+@DisplayName("PreEncodedJsonResponseAdvice Tests")
+class PreEncodedJsonResponseAdviceTest {
+
+    private ObjectMapper objectMapper;
+    private PreEncodedJsonResponseAdvice advice;
+    private MethodParameter metricsReturnType;
+    private ClientMetricsResponse metrics;
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        objectMapper = spy(new ObjectMapper());
+        advice = new PreEncodedJsonResponseAdvice(objectMapper, new SimpleMeterRegistry(), true, DataSize.ofBytes(64), 16);
+        metricsReturnType = new MethodParameter(ClientController.class.getMethod("getClientMetrics"), -1);
+        metrics = ClientMetricsResponse.builder()
+                .totalClients(5L)
+                .averageAge(35.0)
+                .standardDeviationAge(8.2)
+                .minAge(25)
+                .maxAge(45)
+                .medianAge(35.0)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should only apply to annotated methods written as JSON")
+    void supports_ShouldRequireAnnotationAndJsonConverter() throws NoSuchMethodException {
+        // Arrange
+        MethodParameter countReturnType = new MethodParameter(ClientController.class.getMethod("getClientCount"), -1);
+
+        // Act & Assert
+        assertThat(advice.supports(metricsReturnType, MappingJackson2HttpMessageConverter.class)).isTrue();
+        assertThat(advice.supports(metricsReturnType, StringHttpMessageConverter.class)).isFalse();
+        assertThat(advice.supports(countReturnType, MappingJackson2HttpMessageConverter.class)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should write the JSON bytes with an ETag and leave nothing for the converter")
+    void beforeBodyWrite_ShouldWriteJsonWithETag() throws Exception {
+        // Arrange
+        MockHttpServletResponse servletResponse = new MockHttpServletResponse();
+
+        // Act
+        Object remaining = write(metrics, new MockHttpServletRequest(), servletResponse);
+
+        // Assert
+        assertThat(remaining).isNull();
+        assertThat(servletResponse.getContentAsByteArray()).isEqualTo(objectMapper.writeValueAsBytes(metrics));
+        assertThat(servletResponse.getHeader(HttpHeaders.ETAG)).startsWith("W/\"");
+        assertThat(servletResponse.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(servletResponse.getContentType()).isEqualTo(MediaType.APPLICATION_JSON_VALUE);
+    }
+
+    @Test
+    @DisplayName("Should serialize the same body instance only once")
+    void beforeBodyWrite_SameInstance_ShouldSerializeOnce() throws Exception {
+        // Arrange
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        MockHttpServletResponse second = new MockHttpServletResponse();
+
+        // Act
+        write(metrics, new MockHttpServletRequest(), first);
+        write(metrics, new MockHttpServletRequest(), second);
+
+        // Assert
+        verify(objectMapper, times(1)).writeValueAsBytes(metrics);
+        assertThat(second.getContentAsByteArray()).isEqualTo(first.getContentAsByteArray());
+        assertThat(second.getHeader(HttpHeaders.ETAG)).isEqualTo(first.getHeader(HttpHeaders.ETAG));
+    }
+
+    @Test
+    @DisplayName("Should send the pre-compressed body when the client accepts gzip")
+    void beforeBodyWrite_AcceptsGzip_ShouldWriteGzip() throws Exception {
+        // Arrange
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest();
+        servletRequest.addHeader(HttpHeaders.ACCEPT_ENCODING, "br;q=0.9, gzip");
+        MockHttpServletResponse servletResponse = new MockHttpServletResponse();
+
+        // Act
+        write(metrics, servletRequest, servletResponse);
+
+        // Assert
+        assertThat(servletResponse.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(servletResponse.getHeader(HttpHeaders.VARY)).isEqualTo(HttpHeaders.ACCEPT_ENCODING);
+        assertThat(gunzip(servletResponse.getContentAsByteArray())).isEqualTo(objectMapper.writeValueAsBytes(metrics));
+    }
+
+    @Test
+    @DisplayName("Should not compress bodies below the minimum response size")
+    void beforeBodyWrite_SmallBody_ShouldNotCompress() throws Exception {
+        // Arrange
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest();
+        servletRequest.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip");
+        MockHttpServletResponse servletResponse = new MockHttpServletResponse();
+
+        // Act
+        write(Collections.singletonMap("ok", true), servletRequest, servletResponse);
+
+        // Assert
+        assertThat(servletResponse.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(servletResponse.getContentAsString()).isEqualTo("{\"ok\":true}");
+    }
+
+    private Object write(Object body, MockHttpServletRequest servletRequest, MockHttpServletResponse servletResponse) {
+        return advice.beforeBodyWrite(body, metricsReturnType, MediaType.APPLICATION_JSON,
+                MappingJackson2HttpMessageConverter.class,
+                new ServletServerHttpRequest(servletRequest), new ServletServerHttpResponse(servletResponse));
+    }
+
+    private static byte[] gunzip(byte[] compressed) throws IOException {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return gzip.readAllBytes();
+        }
+    }
+}
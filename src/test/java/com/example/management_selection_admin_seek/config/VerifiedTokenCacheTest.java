@@ -0,0 +1,130 @@
+package com.example.management_selection_admin_seek.config;
+
+import com.example.management_selection_admin_seek.service.JwtClaims;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for VerifiedTokenCache
+ * Verifies that repeated tokens skip verification and never outlive their exp claim
+ */
+@DisplayName("VerifiedTokenCache Tests")
+class VerifiedTokenCacheTest {
+
+    private static final Instant NOW = Instant.parse("2025-09-20T12:00:00Z");
+    private static final Clock CLOCK = Clock.fixed(NOW, ZoneOffset.UTC);
+
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicInteger verifications;
+    private Function<String, JwtClaims> verifier;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        verifications = new AtomicInteger();
+        verifier = token -> {
+            verifications.incrementAndGet();
+            if (token.startsWith("bad")) {
+                throw new JwtException("invalid signature");
+            }
+            return claimsExpiringAt(NOW.plus(Duration.ofHours(1)));
+        };
+    }
+
+    @Test
+    @DisplayName("Should verify a token once and serve repeats from the cache")
+    void validate_RepeatedToken_ShouldVerifyOnce() {
+        // Arrange
+        VerifiedTokenCache cache = new VerifiedTokenCache(meterRegistry, CLOCK, true, 100, Duration.ofMinutes(15));
+
+        // Act
+        JwtClaims first = cache.validate("header.payload.signature", verifier);
+        JwtClaims second = cache.validate("header.payload.signature", verifier);
+
+        // Assert
+        assertThat(second).isSameAs(first);
+        assertThat(verifications).hasValue(1);
+        assertThat(gets("hit")).isEqualTo(1.0);
+        assertThat(gets("miss")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should not cache a token that fails verification")
+    void validate_InvalidToken_ShouldThrowEveryTime() {
+        // Arrange
+        VerifiedTokenCache cache = new VerifiedTokenCache(meterRegistry, CLOCK, true, 100, Duration.ofMinutes(15));
+
+        // Act & Assert
+        assertThatThrownBy(() -> cache.validate("bad.payload.signature", verifier)).isInstanceOf(JwtException.class);
+        assertThatThrownBy(() -> cache.validate("bad.payload.signature", verifier)).isInstanceOf(JwtException.class);
+        assertThat(verifications).hasValue(2);
+        assertThat(cache.estimatedSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should verify every token when disabled")
+    void validate_Disabled_ShouldAlwaysVerify() {
+        // Arrange
+        VerifiedTokenCache cache = new VerifiedTokenCache(meterRegistry, CLOCK, false, 100, Duration.ofMinutes(15));
+
+        // Act
+        cache.validate("header.payload.signature", verifier);
+        cache.validate("header.payload.signature", verifier);
+
+        // Assert
+        assertThat(verifications).hasValue(2);
+        assertThat(meterRegistry.find("cache.gets").meters()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should expire an entry at the token's exp claim when it comes before the max TTL")
+    void expireAfterCreate_ExpBeforeMaxTtl_ShouldExpireAtExp() {
+        // Arrange
+        VerifiedTokenCache.TokenExpiry expiry = new VerifiedTokenCache.TokenExpiry(CLOCK, Duration.ofMinutes(15));
+
+        // Act
+        long nanos = expiry.expireAfterCreate("digest", claimsExpiringAt(NOW.plusSeconds(90)), 0L);
+
+        // Assert
+        assertThat(Duration.ofNanos(nanos)).isEqualTo(Duration.ofSeconds(90));
+    }
+
+    @Test
+    @DisplayName("Should cap the lifetime at the max TTL for long-lived tokens")
+    void expireAfterCreate_ExpAfterMaxTtl_ShouldUseMaxTtl() {
+        // Arrange
+        VerifiedTokenCache.TokenExpiry expiry = new VerifiedTokenCache.TokenExpiry(CLOCK, Duration.ofMinutes(15));
+
+        // Act
+        long nanos = expiry.expireAfterCreate("digest", claimsExpiringAt(NOW.plus(Duration.ofHours(24))), 0L);
+
+        // Assert
+        assertThat(Duration.ofNanos(nanos)).isEqualTo(Duration.ofMinutes(15));
+    }
+
+    private double gets(String result) {
+        return meterRegistry.get("cache.gets")
+                .tag("cache", VerifiedTokenCache.CACHE_NAME)
+                .tag("result", result)
+                .functionCounter()
+                .count();
+    }
+
+    private static JwtClaims claimsExpiringAt(Instant expiresAt) {
+        return new JwtClaims("testuser", 1L, "USER", List.of("ROLE_USER"), true, "Test User",
+                expiresAt.minus(Duration.ofHours(24)), expiresAt, null);
+    }
+}
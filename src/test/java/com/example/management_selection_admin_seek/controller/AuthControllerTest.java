@@ -7,6 +7,7 @@ import com.example.management_selection_admin_seek.exception.DuplicateResourceEx
 import com.example.management_selection_admin_seek.exception.InvalidTokenException;
 import com.example.management_selection_admin_seek.mapper.AuthMapper;
 import com.example.management_selection_admin_seek.service.JwtService;
+import com.example.management_selection_admin_seek.service.RefreshTokenService;
 import com.example.management_selection_admin_seek.service.UserService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -41,6 +42,9 @@ class AuthControllerTest {
     @Mock
     private JwtService jwtService;
 
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
     @Mock
     private AuthenticationManager authenticationManager;
 
@@ -156,7 +160,7 @@ class AuthControllerTest {
                 .thenReturn(authentication);
         when(authentication.getPrincipal()).thenReturn(testUser);
         when(jwtService.generateToken(testUser)).thenReturn("access_token");
-        when(jwtService.generateRefreshToken(testUser)).thenReturn("refresh_token");
+        when(refreshTokenService.issue(testUser)).thenReturn("refresh_token");
         when(jwtService.getJwtExpirationInSeconds()).thenReturn(3600L);
         when(authMapper.toLoginResponse(testUser, "access_token", "refresh_token", 3600L))
                 .thenReturn(loginResponse);
@@ -170,7 +174,7 @@ class AuthControllerTest {
         
         verify(authenticationManager).authenticate(any(UsernamePasswordAuthenticationToken.class));
         verify(jwtService).generateToken(testUser);
-        verify(jwtService).generateRefreshToken(testUser);
+        verify(refreshTokenService).issue(testUser);
         verify(authMapper).toLoginResponse(testUser, "access_token", "refresh_token", 3600L);
     }
 
@@ -188,7 +192,7 @@ class AuthControllerTest {
 
         verify(authenticationManager).authenticate(any(UsernamePasswordAuthenticationToken.class));
         verify(jwtService, never()).generateToken(any(User.class));
-        verify(jwtService, never()).generateRefreshToken(any(User.class));
+        verify(refreshTokenService, never()).issue(any(User.class));
         verify(authMapper, never()).toLoginResponse(any(User.class), anyString(), anyString(), any(Long.class));
     }
 
@@ -196,11 +200,9 @@ class AuthControllerTest {
     @DisplayName("Should refresh token successfully")
     void refreshToken_ValidToken_ShouldReturnOk() {
         // Arrange
-        when(jwtService.extractUsername("valid_refresh_token")).thenReturn("testuser");
-        when(userService.loadUserByUsername("testuser")).thenReturn(testUser);
-        when(jwtService.isTokenValid("valid_refresh_token", testUser)).thenReturn(true);
+        when(refreshTokenService.rotate("valid_refresh_token"))
+                .thenReturn(new RefreshTokenService.Rotation(testUser, "new_refresh_token"));
         when(jwtService.generateToken(testUser)).thenReturn("new_access_token");
-        when(jwtService.generateRefreshToken(testUser)).thenReturn("new_refresh_token");
         when(jwtService.getJwtExpirationInSeconds()).thenReturn(3600L);
         when(authMapper.toRefreshResponse("new_access_token", "new_refresh_token", 3600L))
                 .thenReturn(loginResponse);
@@ -212,21 +214,18 @@ class AuthControllerTest {
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).isEqualTo(loginResponse);
         
-        verify(jwtService).extractUsername("valid_refresh_token");
-        verify(userService).loadUserByUsername("testuser");
-        verify(jwtService).isTokenValid("valid_refresh_token", testUser);
+        verify(refreshTokenService).rotate("valid_refresh_token");
         verify(jwtService).generateToken(testUser);
-        verify(jwtService).generateRefreshToken(testUser);
         verify(authMapper).toRefreshResponse("new_access_token", "new_refresh_token", 3600L);
+        verifyNoInteractions(userService);
     }
 
     @Test
     @DisplayName("Should handle invalid refresh token")
     void refreshToken_InvalidToken_ShouldThrowException() {
         // Arrange
-        when(jwtService.extractUsername("invalid_token")).thenReturn("testuser");
-        when(userService.loadUserByUsername("testuser")).thenReturn(testUser);
-        when(jwtService.isTokenValid("invalid_token", testUser)).thenReturn(false);
+        when(refreshTokenService.rotate("invalid_token"))
+                .thenThrow(new InvalidTokenException("Refresh token is invalid or expired"));
 
         // Act & Assert
         RefreshTokenRequest invalidRequest = RefreshTokenRequest.builder()
@@ -237,11 +236,8 @@ class AuthControllerTest {
                 .isInstanceOf(InvalidTokenException.class)
                 .hasMessage("Refresh token is invalid or expired");
 
-        verify(jwtService).extractUsername("invalid_token");
-        verify(userService).loadUserByUsername("testuser");
-        verify(jwtService).isTokenValid("invalid_token", testUser);
+        verify(refreshTokenService).rotate("invalid_token");
         verify(jwtService, never()).generateToken(any(User.class));
-        verify(jwtService, never()).generateRefreshToken(any(User.class));
         verify(authMapper, never()).toRefreshResponse(anyString(), anyString(), any(Long.class));
     }
 
@@ -255,7 +251,7 @@ class AuthControllerTest {
         when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class))).thenReturn(authentication);
         when(authentication.getPrincipal()).thenReturn(testUser);
         when(jwtService.generateToken(any(User.class))).thenReturn("token");
-        when(jwtService.generateRefreshToken(any(User.class))).thenReturn("refresh");
+        when(refreshTokenService.issue(any(User.class))).thenReturn("refresh");
         when(jwtService.getJwtExpirationInSeconds()).thenReturn(3600L);
         when(authMapper.toLoginResponse(any(User.class), anyString(), anyString(), any(Long.class))).thenReturn(loginResponse);
 
@@ -267,7 +263,7 @@ class AuthControllerTest {
         verify(userService).registerUser(any(RegisterRequest.class));
         verify(authenticationManager).authenticate(any(UsernamePasswordAuthenticationToken.class));
         verify(jwtService).generateToken(any(User.class));
-        verify(jwtService).generateRefreshToken(any(User.class));
+        verify(refreshTokenService).issue(any(User.class));
         verify(authMapper).toLoginResponse(any(User.class), anyString(), anyString(), any(Long.class));
     }
 }
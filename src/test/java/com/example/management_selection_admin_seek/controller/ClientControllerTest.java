@@ -1,6 +1,8 @@
 package com.example.management_selection_admin_seek.controller;
 
 import com.example.management_selection_admin_seek.dto.*;
+import com.example.management_selection_admin_seek.enums.ClientCursorOrder;
+import com.example.management_selection_admin_seek.enums.ClientExportFormat;
 import com.example.management_selection_admin_seek.exception.BusinessException;
 import com.example.management_selection_admin_seek.service.ClientService;
 import org.junit.jupiter.api.BeforeEach;
@@ -10,16 +12,23 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.ByteArrayOutputStream;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -172,6 +181,97 @@ class ClientControllerTest {
         verify(clientService).getClientMetrics();
     }
 
+    @Test
+    @DisplayName("Should get client age distribution successfully")
+    void getAgeDistribution_ShouldReturnDistribution() {
+        // Arrange
+        ClientAgeDistributionResponse distribution = ClientAgeDistributionResponse.builder()
+                .totalClients(5L)
+                .bucketWidth(5)
+                .percentiles(Map.of("p90", 43.0))
+                .histogram(List.of())
+                .build();
+        when(clientService.getAgeDistribution(5, List.of(90.0))).thenReturn(distribution);
+
+        // Act
+        ResponseEntity<ClientAgeDistributionResponse> response = clientController.getAgeDistribution(5, List.of(90.0));
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo(distribution);
+        verify(clientService).getAgeDistribution(5, List.of(90.0));
+    }
+
+    @Test
+    @DisplayName("Should get client slice successfully")
+    void getClientsSlice_ShouldReturnSlice() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 20);
+        Slice<ClientDetailResponse> clientSlice = new SliceImpl<>(List.of(clientDetailResponse), pageable, false);
+        when(clientService.getClientsSlice(pageable)).thenReturn(clientSlice);
+
+        // Act
+        ResponseEntity<Slice<ClientDetailResponse>> response = clientController.getClientsSlice(pageable);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo(clientSlice);
+        verify(clientService).getClientsSlice(pageable);
+    }
+
+    @Test
+    @DisplayName("Should get client count successfully")
+    void getClientCount_ShouldReturnCount() {
+        // Arrange
+        ClientCountResponse count = ClientCountResponse.builder().totalClients(50L).build();
+        when(clientService.getClientCount()).thenReturn(count);
+
+        // Act
+        ResponseEntity<ClientCountResponse> response = clientController.getClientCount();
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody().getTotalClients()).isEqualTo(50L);
+    }
+
+    @Test
+    @DisplayName("Should stream client export as a CSV attachment")
+    void exportClients_ShouldStreamAttachment() throws Exception {
+        // Arrange
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // Act
+        ResponseEntity<StreamingResponseBody> response = clientController.exportClients(ClientExportFormat.CSV);
+        response.getBody().writeTo(output);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.parseMediaType("text/csv"));
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION)).contains("clients.csv");
+        verify(clientService).exportClients(ClientExportFormat.CSV, output);
+    }
+
+    @Test
+    @DisplayName("Should get clients by cursor successfully")
+    void getClientsByCursor_ShouldReturnCursorPage() {
+        // Arrange
+        ClientCursorPageResponse cursorPage = ClientCursorPageResponse.builder()
+                .content(List.of(clientDetailResponse))
+                .size(20)
+                .hasNext(false)
+                .build();
+        when(clientService.getClientsByCursor(null, ClientCursorOrder.ID_DESC, 20)).thenReturn(cursorPage);
+
+        // Act
+        ResponseEntity<ClientCursorPageResponse> response =
+                clientController.getClientsByCursor(null, ClientCursorOrder.ID_DESC, 20);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo(cursorPage);
+        verify(clientService).getClientsByCursor(null, ClientCursorOrder.ID_DESC, 20);
+    }
+
     @Test
     @DisplayName("Should delegate all operations to service layer")
     void controller_ShouldDelegateToService() {
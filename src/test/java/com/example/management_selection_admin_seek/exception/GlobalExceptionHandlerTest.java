@@ -10,6 +10,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -19,6 +20,7 @@ import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
+import java.time.Duration;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.*;
@@ -163,6 +165,26 @@ class GlobalExceptionHandlerTest {
         });
     }
 
+    @Test
+    @DisplayName("Should handle service overloaded with 503 status and Retry-After")
+    void handleServiceOverloaded_ShouldReturn503WithRetryAfter() {
+        // Arrange
+        ServiceOverloadedException exception =
+                new ServiceOverloadedException("Too many concurrent password operations", Duration.ofMillis(1500));
+
+        // Act
+        ResponseEntity<ErrorResponse> response = globalExceptionHandler.handleServiceOverloaded(exception, request);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("2");
+        assertThat(response.getBody()).isNotNull().satisfies(errorResponse -> {
+            assertThat(errorResponse.getStatus()).isEqualTo(503);
+            assertThat(errorResponse.getError()).isEqualTo("SERVICE_OVERLOADED");
+            assertThat(errorResponse.getMessage()).isEqualTo("Too many concurrent password operations");
+        });
+    }
+
     @Test
     @DisplayName("Should handle authentication exception with 401 status")
     void handleAuthenticationException_ShouldReturn401() {
@@ -1,6 +1,9 @@
 package com.example.management_selection_admin_seek.repository;
 
 import com.example.management_selection_admin_seek.entity.Client;
+import com.example.management_selection_admin_seek.repository.projection.AgeFrequency;
+import com.example.management_selection_admin_seek.repository.projection.ClientAgeAggregate;
+import com.example.management_selection_admin_seek.repository.projection.ClientDataMarker;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -8,12 +11,18 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
 
 /**
  * Repository tests for ClientRepository
@@ -66,105 +75,139 @@ class ClientRepositoryTest {
     }
 
     @Test
-    @DisplayName("Should calculate average age correctly")
-    void findAverageAge_ShouldReturnCorrectAverage() {
+    @DisplayName("Should read the last update date and row count in one query")
+    void findDataMarker_ShouldReturnLastUpdateAndCount() {
         // Act
-        Double averageAge = clientRepository.findAverageAge();
+        ClientDataMarker marker = clientRepository.findDataMarker();
 
         // Assert
-        assertThat(averageAge).isNotNull();
-        assertThat(averageAge).isEqualTo(30.0); // (25 + 30 + 35) / 3 = 30
+        assertThat(marker.count()).isEqualTo(3L);
+        assertThat(marker.lastUpdate()).isCloseTo(client3.getUpdateDate(), within(1, ChronoUnit.SECONDS));
     }
 
     @Test
-    @DisplayName("Should return null average when no clients exist")
-    void findAverageAge_EmptyTable_ShouldReturnNull() {
+    @DisplayName("Should count clients per age")
+    void findAgeFrequencies_ShouldGroupClientsByAge() {
+        // Arrange - Add a second client aged 30
+        entityManager.persistAndFlush(Client.builder()
+                .name("Alice")
+                .lastName("Brown")
+                .age(30)
+                .birthDate(LocalDate.of(1994, 3, 15))
+                .build());
+
+        // Act
+        List<AgeFrequency> frequencies = clientRepository.findAgeFrequencies();
+
+        // Assert
+        assertThat(frequencies).containsExactlyInAnyOrder(
+                new AgeFrequency(25, 1L),
+                new AgeFrequency(30, 2L),
+                new AgeFrequency(35, 1L));
+    }
+
+    @Test
+    @DisplayName("Should return empty frequency table when no clients exist")
+    void findAgeFrequencies_EmptyTable_ShouldReturnEmptyList() {
         // Arrange - Clear all clients
         clientRepository.deleteAll();
         entityManager.flush();
 
         // Act
-        Double averageAge = clientRepository.findAverageAge();
+        List<AgeFrequency> frequencies = clientRepository.findAgeFrequencies();
 
         // Assert
-        assertThat(averageAge).isNull();
+        assertThat(frequencies).isEmpty();
     }
 
     @Test
-    @DisplayName("Should return all ages in ascending order")
-    void findAllAges_ShouldReturnAgesInOrder() {
+    @DisplayName("Should read the whole age distribution with one grouped query")
+    void findAgeAggregate_ShouldReturnAllAggregates() {
         // Act
-        List<Integer> ages = clientRepository.findAllAges();
+        ClientAgeAggregate aggregate = clientRepository.findAgeAggregate();
 
-        // Assert
-        assertThat(ages).isNotNull();
-        assertThat(ages).hasSize(3);
-        assertThat(ages).containsExactly(25, 30, 35); // Should be ordered
+        // Assert - ages 25, 30, 35
+        assertThat(aggregate.frequencies()).containsExactly(
+                new AgeFrequency(25, 1L),
+                new AgeFrequency(30, 1L),
+                new AgeFrequency(35, 1L));
     }
 
     @Test
-    @DisplayName("Should return empty list when no clients exist")
-    void findAllAges_EmptyTable_ShouldReturnEmptyList() {
+    @DisplayName("Should return an empty aggregate when no clients exist")
+    void findAgeAggregate_EmptyTable_ShouldReturnEmptyAggregate() {
         // Arrange - Clear all clients
         clientRepository.deleteAll();
         entityManager.flush();
 
         // Act
-        List<Integer> ages = clientRepository.findAllAges();
+        ClientAgeAggregate aggregate = clientRepository.findAgeAggregate();
 
         // Assert
-        assertThat(ages).isNotNull();
-        assertThat(ages).isEmpty();
+        assertThat(aggregate.frequencies()).isEmpty();
     }
 
     @Test
-    @DisplayName("Should find minimum age correctly")
-    void findMinAge_ShouldReturnMinimumAge() {
+    @DisplayName("Should stream all clients in id order")
+    void streamAllForExport_ShouldStreamAllClients() {
         // Act
-        Integer minAge = clientRepository.findMinAge();
+        List<String> names;
+        try (Stream<Client> clients = clientRepository.streamAllForExport()) {
+            names = clients.map(Client::getName).toList();
+        }
 
         // Assert
-        assertThat(minAge).isNotNull();
-        assertThat(minAge).isEqualTo(25);
+        assertThat(names).containsExactly("John", "Jane", "Bob");
     }
 
     @Test
-    @DisplayName("Should return null min age when no clients exist")
-    void findMinAge_EmptyTable_ShouldReturnNull() {
-        // Arrange - Clear all clients
-        clientRepository.deleteAll();
-        entityManager.flush();
-
+    @DisplayName("Should return slices that only know whether a next slice exists")
+    void findAllBy_ShouldReturnSlices() {
         // Act
-        Integer minAge = clientRepository.findMinAge();
+        Slice<Client> first = clientRepository.findAllBy(PageRequest.of(0, 2, Sort.by("age")));
+        Slice<Client> last = clientRepository.findAllBy(PageRequest.of(1, 2, Sort.by("age")));
 
         // Assert
-        assertThat(minAge).isNull();
+        assertThat(first.getContent()).extracting(Client::getName).containsExactly("John", "Jane");
+        assertThat(first.hasNext()).isTrue();
+        assertThat(last.getContent()).extracting(Client::getName).containsExactly("Bob");
+        assertThat(last.hasNext()).isFalse();
     }
 
     @Test
-    @DisplayName("Should find maximum age correctly")
-    void findMaxAge_ShouldReturnMaximumAge() {
+    @DisplayName("Should seek next clients by id in both directions")
+    void findNextById_ShouldSeekFromLastId() {
         // Act
-        Integer maxAge = clientRepository.findMaxAge();
+        List<Client> ascending = clientRepository.findNextByIdAsc(client1.getId(), PageRequest.ofSize(10));
+        List<Client> descending = clientRepository.findNextByIdDesc(client3.getId(), PageRequest.ofSize(1));
 
         // Assert
-        assertThat(maxAge).isNotNull();
-        assertThat(maxAge).isEqualTo(35);
+        assertThat(ascending).extracting(Client::getName).containsExactly("Jane", "Bob");
+        assertThat(descending).extracting(Client::getName).containsExactly("Jane");
     }
 
     @Test
-    @DisplayName("Should return null max age when no clients exist")
-    void findMaxAge_EmptyTable_ShouldReturnNull() {
-        // Arrange - Clear all clients
-        clientRepository.deleteAll();
-        entityManager.flush();
+    @DisplayName("Should seek next clients by birth date with id as tie breaker")
+    void findNextByBirthDate_ShouldSeekFromLastPosition() {
+        // Arrange - Same birth date as Jane, inserted later (higher id)
+        Client twin = entityManager.persistAndFlush(Client.builder()
+                .name("Janet")
+                .lastName("Smith")
+                .age(30)
+                .birthDate(LocalDate.of(1994, 8, 20))
+                .build());
 
         // Act
-        Integer maxAge = clientRepository.findMaxAge();
+        List<Client> firstPage = clientRepository.findByOrderByBirthDateAscIdAsc(PageRequest.ofSize(2));
+        List<Client> secondPage = clientRepository.findNextByBirthDateAsc(
+                client2.getBirthDate(), client2.getId(), PageRequest.ofSize(10));
+        List<Client> descending = clientRepository.findNextByBirthDateDesc(
+                twin.getBirthDate(), twin.getId(), PageRequest.ofSize(10));
 
         // Assert
-        assertThat(maxAge).isNull();
+        assertThat(firstPage).extracting(Client::getName).containsExactly("Bob", "Jane");
+        assertThat(secondPage).extracting(Client::getName).containsExactly("Janet", "John");
+        assertThat(descending).extracting(Client::getName).containsExactly("Jane", "Bob");
     }
 
     @Test
@@ -195,32 +238,6 @@ class ClientRepositoryTest {
         assertThat(retrievedClient.getBirthDate()).isEqualTo(LocalDate.of(1996, 3, 15));
     }
 
-    @Test
-    @DisplayName("Should handle single client scenario")
-    void statisticsQueries_WithSingleClient_ShouldWorkCorrectly() {
-        // Arrange - Clear existing clients and add one
-        clientRepository.deleteAll();
-        Client singleClient = Client.builder()
-                .name("Solo")
-                .lastName("Client")
-                .age(40)
-                .birthDate(LocalDate.of(1984, 1, 1))
-                .build();
-        entityManager.persistAndFlush(singleClient);
-
-        // Act
-        Double averageAge = clientRepository.findAverageAge();
-        List<Integer> allAges = clientRepository.findAllAges();
-        Integer minAge = clientRepository.findMinAge();
-        Integer maxAge = clientRepository.findMaxAge();
-
-        // Assert
-        assertThat(averageAge).isEqualTo(40.0);
-        assertThat(allAges).containsExactly(40);
-        assertThat(minAge).isEqualTo(40);
-        assertThat(maxAge).isEqualTo(40);
-    }
-
     @Test
     @DisplayName("Should count clients correctly")
     void count_ShouldReturnCorrectCount() {
@@ -0,0 +1,114 @@
+package com.example.management_selection_admin_seek.repository;
+
+import com.example.management_selection_admin_seek.entity.RefreshToken;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Repository tests for RefreshTokenRepository
+ * Tests the rotation and revocation statements used on the refresh path
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DisplayName("Refresh Token Repository Tests")
+class RefreshTokenRepositoryTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenRepository.insert("jti-1", 1L, "family-1", NOW.plusDays(7), NOW.minusDays(1));
+    }
+
+    @Test
+    @DisplayName("Should rotate a usable token once and copy its family to the replacement")
+    void markRotated_UsableToken_ShouldRotateOnce() {
+        // Act
+        int first = refreshTokenRepository.markRotated("jti-1", "jti-2", NOW);
+        int second = refreshTokenRepository.markRotated("jti-1", "jti-3", NOW);
+        refreshTokenRepository.insertReplacement("jti-2", "jti-1", NOW.plusDays(7), NOW);
+        entityManager.clear();
+
+        // Assert
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isZero();
+
+        RefreshToken rotated = refreshTokenRepository.findById("jti-1").orElseThrow();
+        assertThat(rotated.isRevoked()).isTrue();
+        assertThat(rotated.getReplacedBy()).isEqualTo("jti-2");
+
+        RefreshToken replacement = refreshTokenRepository.findById("jti-2").orElseThrow();
+        assertThat(replacement.getUserId()).isEqualTo(1L);
+        assertThat(replacement.getFamilyId()).isEqualTo("family-1");
+        assertThat(replacement.isRevoked()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should never let a replacement expire after its family")
+    void insertReplacement_ShouldCapExpiryAtFamilyExpiry() {
+        // Act
+        refreshTokenRepository.markRotated("jti-1", "jti-2", NOW);
+        refreshTokenRepository.insertReplacement("jti-2", "jti-1", NOW.plusDays(14), NOW);
+        entityManager.clear();
+
+        // Assert
+        RefreshToken replacement = refreshTokenRepository.findById("jti-2").orElseThrow();
+        assertThat(replacement.getExpiresAt()).isEqualTo(NOW.plusDays(7));
+        assertThat(replacement.getFamilyExpiresAt()).isEqualTo(NOW.plusDays(7));
+    }
+
+    @Test
+    @DisplayName("Should not rotate expired or unknown tokens")
+    void markRotated_ExpiredOrUnknownToken_ShouldUpdateNothing() {
+        // Act & Assert
+        assertThat(refreshTokenRepository.markRotated("jti-1", "jti-2", NOW.plusDays(8))).isZero();
+        assertThat(refreshTokenRepository.markRotated("unknown", "jti-2", NOW)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should revoke the family and list it among revoked tokens until it expires")
+    void revokeFamily_ShouldRevokeUsableTokens() {
+        // Arrange
+        refreshTokenRepository.insert("other", 2L, "family-2", NOW.plusDays(7), NOW);
+
+        // Act
+        int revoked = refreshTokenRepository.revokeFamily("family-1", NOW);
+
+        // Assert
+        assertThat(revoked).isEqualTo(1);
+        assertThat(refreshTokenRepository.findRevokedIdsNotExpired(NOW)).containsExactly("jti-1");
+        assertThat(refreshTokenRepository.findRevokedIdsNotExpired(NOW.plusDays(8))).isEmpty();
+        assertThat(refreshTokenRepository.findIdsByFamilyId("family-1")).containsExactly("jti-1");
+    }
+
+    @Test
+    @DisplayName("Should purge tokens expired before the cutoff")
+    void deleteExpiredBefore_ShouldDeleteExpiredTokens() {
+        // Act
+        int kept = refreshTokenRepository.deleteExpiredBefore(NOW);
+        int purged = refreshTokenRepository.deleteExpiredBefore(NOW.plusDays(8));
+
+        // Assert
+        assertThat(kept).isZero();
+        assertThat(purged).isEqualTo(1);
+        assertThat(refreshTokenRepository.count()).isZero();
+    }
+}
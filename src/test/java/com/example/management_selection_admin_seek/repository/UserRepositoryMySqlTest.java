@@ -0,0 +1,142 @@
+package com.example.management_selection_admin_seek.repository;
+
+import com.example.management_selection_admin_seek.entity.User;
+import com.example.management_selection_admin_seek.enums.Role;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Query plan tests for UserRepository against MySQL
+ * The schema comes from the Flyway migrations and the plans from EXPLAIN of the statements the
+ * repository actually sends, so they check what production runs. Skipped when Docker is unavailable.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Import(UserRepositoryMySqlTest.SqlCaptureConfig.class)
+@DisplayName("User Repository MySQL Query Plan Tests")
+class UserRepositoryMySqlTest {
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    /** Statements prepared by Hibernate, in order */
+    private static final List<String> PREPARED_SQL = new CopyOnWriteArrayList<>();
+
+    @DynamicPropertySource
+    static void mysqlProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+        registry.add("spring.datasource.username", MYSQL::getUsername);
+        registry.add("spring.datasource.password", MYSQL::getPassword);
+        registry.add("spring.datasource.driver-class-name", MYSQL::getDriverClassName);
+        registry.add("spring.jpa.database-platform", () -> "org.hibernate.dialect.MySQLDialect");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+        registry.add("spring.flyway.enabled", () -> "true");
+    }
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    @DisplayName("Should resolve a username lookup with a single probe of the username unique index")
+    void findByUsername_ShouldBeConstLookup() {
+        // Arrange
+        seedUsers(2_000);
+
+        // Act
+        List<Map<String, Object>> plan = explain(() -> userRepository.findByUsername("user_1500"), "user_1500");
+
+        // Assert
+        assertThat(plan).singleElement().satisfies(row -> {
+            assertThat(row.get("type")).isEqualTo("const");
+            assertThat(row.get("key")).isEqualTo(User.USERNAME_CONSTRAINT);
+        });
+    }
+
+    @Test
+    @DisplayName("Should resolve an email lookup with a single probe of the email unique index")
+    void findByEmail_ShouldBeConstLookup() {
+        // Arrange
+        seedUsers(2_000);
+
+        // Act
+        List<Map<String, Object>> plan = explain(() -> userRepository.findByEmail("user_1500@example.com"),
+                "user_1500@example.com");
+
+        // Assert
+        assertThat(plan).singleElement().satisfies(row -> {
+            assertThat(row.get("type")).isEqualTo("const");
+            assertThat(row.get("key")).isEqualTo(User.EMAIL_CONSTRAINT);
+        });
+    }
+
+    private void seedUsers(int count) {
+        for (int i = 0; i < count; i++) {
+            entityManager.persist(User.builder()
+                    .username("user_" + i)
+                    .email("user_" + i + "@example.com")
+                    .password("$2a$10$encoded.password.here")
+                    .firstName("User")
+                    .lastName(String.valueOf(i))
+                    .role(Role.USER)
+                    .enabled(true)
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    /**
+     * Run the lookup, then EXPLAIN the statement it sent with the same parameter
+     */
+    private List<Map<String, Object>> explain(Runnable lookup, Object parameter) {
+        PREPARED_SQL.clear();
+        lookup.run();
+        assertThat(PREPARED_SQL).hasSize(1);
+        return new JdbcTemplate(dataSource).queryForList("EXPLAIN " + PREPARED_SQL.get(0), parameter);
+    }
+
+    @TestConfiguration
+    static class SqlCaptureConfig {
+
+        @Bean
+        HibernatePropertiesCustomizer preparedSqlCapture() {
+            StatementInspector inspector = sql -> {
+                PREPARED_SQL.add(sql);
+                return sql;
+            };
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, inspector);
+        }
+    }
+}
@@ -9,11 +9,14 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /**
  * Repository tests for UserRepository
@@ -63,95 +66,36 @@ class UserRepositoryTest {
     }
 
     @Test
-    @DisplayName("Should find user by username")
-    void findByUsernameOrEmail_WithUsername_ShouldReturnUser() {
+    @DisplayName("Should find user by exact username or email")
+    void findByUsernameAndFindByEmail_ShouldReturnUser() {
         // Act
-        Optional<User> result = userRepository.findByUsernameOrEmail("john_doe");
+        Optional<User> byUsername = userRepository.findByUsername("john_doe");
+        Optional<User> byEmail = userRepository.findByEmail("jane@example.com");
+        Optional<User> emailAsUsername = userRepository.findByUsername("jane@example.com");
 
         // Assert
-        assertThat(result).isPresent();
-        assertThat(result.get().getUsername()).isEqualTo("john_doe");
-        assertThat(result.get().getEmail()).isEqualTo("john@example.com");
-        assertThat(result.get().getFirstName()).isEqualTo("John");
-        assertThat(result.get().getLastName()).isEqualTo("Doe");
-        assertThat(result.get().getRole()).isEqualTo(Role.USER);
+        assertThat(byUsername).map(User::getEmail).contains("john@example.com");
+        assertThat(byEmail).map(User::getUsername).contains("jane_smith");
+        assertThat(emailAsUsername).isEmpty();
     }
 
     @Test
-    @DisplayName("Should find user by email")
-    void findByUsernameOrEmail_WithEmail_ShouldReturnUser() {
-        // Act
-        Optional<User> result = userRepository.findByUsernameOrEmail("jane@example.com");
-
-        // Assert
-        assertThat(result).isPresent();
-        assertThat(result.get().getUsername()).isEqualTo("jane_smith");
-        assertThat(result.get().getEmail()).isEqualTo("jane@example.com");
-        assertThat(result.get().getFirstName()).isEqualTo("Jane");
-        assertThat(result.get().getLastName()).isEqualTo("Smith");
-        assertThat(result.get().getRole()).isEqualTo(Role.ADMIN);
-    }
-
-    @Test
-    @DisplayName("Should return empty when user not found")
-    void findByUsernameOrEmail_UserNotFound_ShouldReturnEmpty() {
-        // Act
-        Optional<User> result = userRepository.findByUsernameOrEmail("nonexistent");
-
-        // Assert
-        assertThat(result).isEmpty();
-    }
-
-    @Test
-    @DisplayName("Should handle case sensitivity correctly")
-    void findByUsernameOrEmail_CaseSensitive_ShouldNotMatchDifferentCase() {
-        // Act
-        Optional<User> result1 = userRepository.findByUsernameOrEmail("JOHN_DOE");
-        Optional<User> result2 = userRepository.findByUsernameOrEmail("JOHN@EXAMPLE.COM");
-
-        // Assert
-        assertThat(result1).isEmpty();
-        assertThat(result2).isEmpty();
-    }
-
-    @Test
-    @DisplayName("Should check if username exists")
-    void existsByUsername_ExistingUsername_ShouldReturnTrue() {
-        // Act
-        boolean exists = userRepository.existsByUsername("john_doe");
-
-        // Assert
-        assertThat(exists).isTrue();
-    }
-
-    @Test
-    @DisplayName("Should return false for non-existing username")
-    void existsByUsername_NonExistingUsername_ShouldReturnFalse() {
-        // Act
-        boolean exists = userRepository.existsByUsername("non_existing_user");
-
-        // Assert
-        assertThat(exists).isFalse();
-    }
-
-    @Test
-    @DisplayName("Should check if email exists")
-    void existsByEmail_ExistingEmail_ShouldReturnTrue() {
-        // Act
-        boolean exists = userRepository.existsByEmail("john@example.com");
-
-        // Assert
-        assertThat(exists).isTrue();
-    }
-
-    @Test
-    @DisplayName("Should return false for non-existing email")
-    void existsByEmail_NonExistingEmail_ShouldReturnFalse() {
-        // Act
-        boolean exists = userRepository.existsByEmail("nonexisting@example.com");
+    @DisplayName("Should reject a duplicate username through the named unique constraint")
+    void saveAndFlush_DuplicateUsername_ShouldViolateUsernameConstraint() {
+        // Arrange
+        User duplicate = User.builder()
+                .username("john_doe")
+                .email("other@example.com")
+                .password("password")
+                .firstName("Other")
+                .lastName("John")
+                .build();
 
-        // Assert
-        assertThat(exists).isFalse();
+        // Act & Assert
+        assertThatThrownBy(() -> userRepository.saveAndFlush(duplicate))
+                .isInstanceOf(DataIntegrityViolationException.class)
+                .satisfies(e -> assertThat(((DataIntegrityViolationException) e).getMostSpecificCause().getMessage())
+                        .containsIgnoringCase(User.USERNAME_CONSTRAINT));
     }
 
     @Test
@@ -187,22 +131,6 @@ class UserRepositoryTest {
         assertThat(retrievedUser.isEnabled()).isTrue();
     }
 
-    @Test
-    @DisplayName("Should handle username and email uniqueness")
-    void uniqueConstraints_ShouldWork() {
-        // Act
-        long initialCount = userRepository.count();
-        
-        // Check that our test users exist
-        boolean usernameExists = userRepository.existsByUsername("john_doe");
-        boolean emailExists = userRepository.existsByEmail("john@example.com");
-
-        // Assert
-        assertThat(initialCount).isEqualTo(2);
-        assertThat(usernameExists).isTrue();
-        assertThat(emailExists).isTrue();
-    }
-
     @Test
     @DisplayName("Should find all users")
     void findAll_ShouldReturnAllUsers() {
@@ -257,4 +185,18 @@ class UserRepositoryTest {
         assertThat(retrievedUser.getRole()).isEqualTo(Role.USER); // Default value
         assertThat(retrievedUser.isEnabled()).isTrue(); // Default value
     }
+
+    @Test
+    @DisplayName("Should return the ids of disabled users only")
+    void findDisabledUserIds_ShouldReturnDisabledUsers() {
+        // Arrange
+        testUser2.setEnabled(false);
+        entityManager.persistAndFlush(testUser2);
+
+        // Act
+        List<Long> disabledIds = userRepository.findDisabledUserIds();
+
+        // Assert
+        assertThat(disabledIds).containsExactly(testUser2.getId());
+    }
 }
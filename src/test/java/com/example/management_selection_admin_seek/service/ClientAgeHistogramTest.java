@@ -0,0 +1,216 @@
+package com.example.management_selection_admin_seek.service;
+
+import com.example.management_selection_admin_seek.entity.Client;
+import com.example.management_selection_admin_seek.repository.ClientRepository;
+import com.example.management_selection_admin_seek.repository.projection.AgeFrequency;
+import com.example.management_selection_admin_seek.repository.projection.ClientAgeAggregate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ClientAgeHistogram and the AgeStatistics snapshots it produces
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ClientAgeHistogram Tests")
+class ClientAgeHistogramTest {
+
+    @Mock
+    private ClientRepository clientRepository;
+
+    @InjectMocks
+    private ClientAgeHistogram ageHistogram;
+
+    @Test
+    @DisplayName("Should not be initialized before loading from the database")
+    void isInitialized_BeforeLoad_ShouldBeFalse() {
+        assertThat(ageHistogram.isInitialized()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should load frequency table with a single aggregate query")
+    void initialize_ShouldLoadFrequencies() {
+        // Arrange
+        when(clientRepository.findAgeAggregate()).thenReturn(ClientAgeAggregate.from(List.of(
+                new AgeFrequency(25, 2L),
+                new AgeFrequency(35, 1L))));
+
+        // Act
+        ageHistogram.initialize();
+        AgeStatistics statistics = ageHistogram.snapshot();
+
+        // Assert
+        assertThat(ageHistogram.isInitialized()).isTrue();
+        assertThat(statistics.getTotal()).isEqualTo(3L);
+        assertThat(statistics.getCount(25)).isEqualTo(2L);
+        assertThat(statistics.getMin()).isEqualTo(25);
+        assertThat(statistics.getMax()).isEqualTo(35);
+        verify(clientRepository, times(1)).findAgeAggregate();
+    }
+
+    @Test
+    @DisplayName("Should keep statistics current when clients are recorded")
+    void record_AfterInitialize_ShouldUpdateStatistics() {
+        // Arrange
+        when(clientRepository.findAgeAggregate()).thenReturn(ClientAgeAggregate.from(List.of(new AgeFrequency(20, 1L))));
+        ageHistogram.initialize();
+
+        // Act
+        ageHistogram.record(client(2L, 30));
+        ageHistogram.record(client(3L, 40));
+        AgeStatistics statistics = ageHistogram.snapshot();
+
+        // Assert - 20, 30, 40
+        assertThat(statistics.getTotal()).isEqualTo(3L);
+        assertThat(ageHistogram.getTotal()).isEqualTo(3L);
+        assertThat(statistics.getMean()).isEqualTo(30.0);
+        assertThat(statistics.getStandardDeviation()).isCloseTo(8.16, within(0.01));
+        assertThat(statistics.getMedian()).isEqualTo(30.0);
+    }
+
+    @Test
+    @DisplayName("Should ignore clients recorded before loading starts, since the load reads them")
+    void record_BeforeInitialize_ShouldBeIgnored() {
+        // Act
+        ageHistogram.record(client(1L, 30));
+
+        // Assert
+        assertThat(ageHistogram.snapshot().isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should add clients committed during the load that the load did not count")
+    void initialize_ClientsRecordedWhileLoading_ShouldApplyMissingOnes() {
+        // Arrange - client 2 made it into the aggregate, client 3 committed after it was read
+        when(clientRepository.findAgeAggregate()).thenAnswer(invocation -> {
+            ageHistogram.record(client(2L, 30));
+            ageHistogram.record(client(3L, 40));
+            return ClientAgeAggregate.from(List.of(new AgeFrequency(20, 1L), new AgeFrequency(30, 1L)));
+        });
+        when(clientRepository.findExistingIds(Set.of(2L, 3L))).thenReturn(List.of(2L));
+
+        // Act
+        ageHistogram.initialize();
+
+        // Assert - 20, 30, 40
+        assertThat(ageHistogram.getTotal()).isEqualTo(3L);
+        assertThat(ageHistogram.snapshot().getCount(30)).isEqualTo(1L);
+        assertThat(ageHistogram.snapshot().getCount(40)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Should count only the ages the histogram can hold")
+    void initialize_UntrackedAges_ShouldBeLeftOutOfTotal() {
+        // Arrange
+        when(clientRepository.findAgeAggregate()).thenReturn(ClientAgeAggregate.from(List.of(
+                new AgeFrequency(25, 2L),
+                new AgeFrequency(150, 1L))));
+
+        // Act
+        ageHistogram.initialize();
+
+        // Assert
+        assertThat(ageHistogram.getTotal()).isEqualTo(2L);
+        assertThat(ageHistogram.snapshot().getTotal()).isEqualTo(2L);
+        verify(clientRepository, never()).findExistingIds(any());
+    }
+
+    @Test
+    @DisplayName("Should not be affected by later updates once a snapshot is taken")
+    void snapshot_ShouldBeImmutable() {
+        // Arrange
+        when(clientRepository.findAgeAggregate()).thenReturn(ClientAgeAggregate.from(List.of(new AgeFrequency(50, 1L))));
+        ageHistogram.initialize();
+        AgeStatistics before = ageHistogram.snapshot();
+
+        // Act
+        ageHistogram.record(client(2L, 60));
+
+        // Assert
+        assertThat(before.getTotal()).isEqualTo(1L);
+        assertThat(ageHistogram.snapshot().getTotal()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("Should average the two middle ages for an even number of clients")
+    void statistics_EvenCount_ShouldAverageMiddleValues() {
+        // Arrange - 20, 25, 35, 40
+        long[] counts = new long[AgeStatistics.AGE_SLOTS];
+        counts[20 - AgeStatistics.MIN_AGE] = 1;
+        counts[25 - AgeStatistics.MIN_AGE] = 1;
+        counts[35 - AgeStatistics.MIN_AGE] = 1;
+        counts[40 - AgeStatistics.MIN_AGE] = 1;
+
+        // Act
+        AgeStatistics statistics = new AgeStatistics(counts);
+
+        // Assert
+        assertThat(statistics.getMedian()).isEqualTo(30.0);
+    }
+
+    @Test
+    @DisplayName("Should return neutral values for an empty distribution")
+    void statistics_Empty_ShouldReturnNeutralValues() {
+        // Act
+        AgeStatistics statistics = new AgeStatistics(new long[AgeStatistics.AGE_SLOTS]);
+
+        // Assert
+        assertThat(statistics.getTotal()).isZero();
+        assertThat(statistics.getMean()).isEqualTo(0.0);
+        assertThat(statistics.getStandardDeviation()).isEqualTo(0.0);
+        assertThat(statistics.getMedian()).isEqualTo(0.0);
+        assertThat(statistics.getMin()).isNull();
+        assertThat(statistics.getMax()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should interpolate percentiles between closest ranks")
+    void statistics_Percentile_ShouldInterpolate() {
+        // Arrange - 20, 30
+        long[] counts = new long[AgeStatistics.AGE_SLOTS];
+        counts[20 - AgeStatistics.MIN_AGE] = 1;
+        counts[30 - AgeStatistics.MIN_AGE] = 1;
+        AgeStatistics statistics = new AgeStatistics(counts);
+
+        // Act & Assert
+        assertThat(statistics.getPercentile(0.0)).isEqualTo(20.0);
+        assertThat(statistics.getPercentile(90.0)).isCloseTo(29.0, within(0.0001));
+        assertThat(statistics.getPercentile(100.0)).isEqualTo(30.0);
+        assertThatThrownBy(() -> statistics.getPercentile(101.0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> statistics.getPercentile(Double.NaN))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should cover the full age range with fixed-width buckets")
+    void statistics_Buckets_ShouldCoverAgeRange() {
+        // Arrange
+        long[] counts = new long[AgeStatistics.AGE_SLOTS];
+        counts[18 - AgeStatistics.MIN_AGE] = 2;
+        counts[120 - AgeStatistics.MIN_AGE] = 1;
+        AgeStatistics statistics = new AgeStatistics(counts);
+
+        // Act
+        List<AgeStatistics.Bucket> buckets = statistics.getBuckets(50);
+
+        // Assert
+        assertThat(buckets).containsExactly(
+                new AgeStatistics.Bucket(18, 67, 2),
+                new AgeStatistics.Bucket(68, 117, 0),
+                new AgeStatistics.Bucket(118, 120, 1));
+    }
+
+    private static Client client(Long id, int age) {
+        return Client.builder().id(id).age(age).build();
+    }
+}
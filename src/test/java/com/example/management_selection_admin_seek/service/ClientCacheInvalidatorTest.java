@@ -0,0 +1,190 @@
+package com.example.management_selection_admin_seek.service;
+
+import com.example.management_selection_admin_seek.config.CacheConfig;
+import com.example.management_selection_admin_seek.dto.ClientDetailResponse;
+import com.example.management_selection_admin_seek.dto.ClientMetricsResponse;
+import com.example.management_selection_admin_seek.entity.Client;
+import com.example.management_selection_admin_seek.mapper.ClientMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ClientCacheInvalidator
+ * Uses the real Caffeine cache manager so entries are adjusted exactly as in production
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ClientCacheInvalidator Tests")
+class ClientCacheInvalidatorTest {
+
+    @Mock
+    private ClientMapper clientMapper;
+
+    private Cache clientsCache;
+    private Cache metricsCache;
+    private ClientCacheInvalidator invalidator;
+    private Client newClient;
+
+    @BeforeEach
+    void setUp() {
+        CacheManager cacheManager = new CacheConfig().cacheManager(
+                "maximumSize=500,recordStats",
+                Duration.ofHours(12),
+                Duration.ofMinutes(1),
+                Duration.ofMinutes(10),
+                "maximumSize=16,expireAfterWrite=5m,recordStats",
+                Duration.ofSeconds(30),
+                Duration.ofMinutes(5),
+                "maximumSize=1000,expireAfterWrite=2m,recordStats",
+                "maximumSize=1000,expireAfterWrite=10m,recordStats",
+                Clock.systemUTC(),
+                new SimpleMeterRegistry(),
+                Runnable::run,
+                (cacheName, key) -> {
+                    throw new IllegalStateException("No reload expected");
+                });
+        clientsCache = cacheManager.getCache(CacheConfig.CLIENTS_CACHE);
+        metricsCache = cacheManager.getCache(CacheConfig.CLIENT_METRICS_CACHE);
+        invalidator = new ClientCacheInvalidator(cacheManager, clientMapper);
+
+        // New client id 100, aged 40
+        newClient = Client.builder().id(100L).age(40).birthDate(LocalDate.of(1985, 1, 1)).build();
+        lenient().when(clientMapper.toDetailResponse(newClient)).thenReturn(detail(100L, 40));
+    }
+
+    @Test
+    @DisplayName("Should clear every cached listing and the metrics")
+    void evictAll_ShouldClearClientCaches() {
+        // Arrange
+        metricsCache.put(ClientCacheInvalidator.STATISTICS_KEY, ClientMetricsResponse.builder().totalClients(1L).build());
+        clientsCache.put(ClientCacheInvalidator.ALL_CLIENTS_KEY, List.of(detail(1L, 30)));
+
+        // Act
+        invalidator.evictAll();
+
+        // Assert
+        assertThat(metricsCache.get(ClientCacheInvalidator.STATISTICS_KEY)).isNull();
+        assertThat(clientsCache.get(ClientCacheInvalidator.ALL_CLIENTS_KEY)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should evict cached metrics so the next read rebuilds them from the histogram")
+    void onClientCreated_ShouldEvictMetrics() {
+        // Arrange
+        metricsCache.put(ClientCacheInvalidator.STATISTICS_KEY, ClientMetricsResponse.builder().totalClients(1L).build());
+
+        // Act
+        invalidator.onClientCreated(newClient);
+
+        // Assert
+        assertThat(metricsCache.get(ClientCacheInvalidator.STATISTICS_KEY)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should keep full id-ascending pages with a new total and evict the last page")
+    void onClientCreated_UnsortedPages_ShouldOnlyEvictLastPage() {
+        // Arrange - 25 clients, pages of 10 in primary key order
+        Pageable first = PageRequest.of(0, 10);
+        Pageable last = PageRequest.of(2, 10);
+        clientsCache.put("page-0", new PageImpl<>(details(1, 10), first, 25));
+        clientsCache.put("page-2", new PageImpl<>(details(21, 25), last, 25));
+        clientsCache.put(ClientCacheInvalidator.ALL_CLIENTS_KEY, details(1, 25));
+
+        // Act
+        invalidator.onClientCreated(newClient);
+
+        // Assert
+        Page<?> keptPage = clientsCache.get("page-0", Page.class);
+        assertThat(keptPage).isNotNull();
+        assertThat(keptPage.getTotalElements()).isEqualTo(26L);
+        assertThat(keptPage.getContent()).hasSize(10);
+        assertThat(clientsCache.get("page-2")).isNull();
+        assertThat(clientsCache.get(ClientCacheInvalidator.ALL_CLIENTS_KEY)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should evict id-descending pages since the new row shifts every offset page")
+    void onClientCreated_IdDescendingPages_ShouldEvict() {
+        // Arrange
+        Pageable pageable = PageRequest.of(1, 10, Sort.by(Sort.Direction.DESC, "id"));
+        clientsCache.put("page-1-desc", new PageImpl<>(details(1, 10).reversed(), pageable, 25));
+
+        // Act
+        invalidator.onClientCreated(newClient);
+
+        // Assert
+        assertThat(clientsCache.get("page-1-desc")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should keep age-sorted slices ending before the new age and mark them as having a next slice")
+    void onClientCreated_AgeSortedSlices_ShouldKeepUnaffectedSlices() {
+        // Arrange - slice ending at age 30 is unaffected, slice ending at age 45 contains the new position
+        Pageable firstSlice = PageRequest.of(0, 2, Sort.by("age"));
+        Pageable secondSlice = PageRequest.of(1, 2, Sort.by("age"));
+        clientsCache.put("slice-0", new SliceImpl<>(List.of(detail(1L, 25), detail(2L, 30)), firstSlice, false));
+        clientsCache.put("slice-1", new SliceImpl<>(List.of(detail(3L, 35), detail(4L, 45)), secondSlice, false));
+
+        // Act
+        invalidator.onClientCreated(newClient);
+
+        // Assert
+        Slice<?> keptSlice = clientsCache.get("slice-0", Slice.class);
+        assertThat(keptSlice).isNotNull();
+        assertThat(keptSlice.hasNext()).isTrue();
+        assertThat(clientsCache.get("slice-1")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should evict pages sorted by collation-dependent or tied properties")
+    void onClientCreated_UnpredictableOrder_ShouldEvict() {
+        // Arrange
+        Pageable byName = PageRequest.of(0, 1, Sort.by("name"));
+        Pageable byAgeOnly = PageRequest.of(0, 1, Sort.by("age"));
+        clientsCache.put("by-name", new PageImpl<>(List.of(detail(1L, 20)), byName, 5));
+        clientsCache.put("tied-age", new PageImpl<>(List.of(detail(1L, 40)), byAgeOnly, 5));
+
+        // Act
+        invalidator.onClientCreated(newClient);
+
+        // Assert
+        assertThat(clientsCache.get("by-name")).isNull();
+        assertThat(clientsCache.get("tied-age")).isNull();
+    }
+
+    private static List<ClientDetailResponse> details(long fromId, long toId) {
+        return LongStream.rangeClosed(fromId, toId)
+                .mapToObj(id -> detail(id, 30))
+                .toList();
+    }
+
+    private static ClientDetailResponse detail(long id, int age) {
+        return ClientDetailResponse.builder()
+                .id(id)
+                .name("Client " + id)
+                .age(age)
+                .build();
+    }
+}
@@ -4,7 +4,11 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.time.Clock;
 import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -325,4 +329,63 @@ class ClientCalculationServiceTest {
         assertThat(remainingYears).isEqualTo(0); 
         assertThat(lifeExpectancy).isEqualTo(LocalDate.now().plusYears(EXTENDED_LIFE_YEARS));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should compute a batch against a single today snapshot")
+    void calculateDerivedFields_Batch_ShouldUseSingleToday() {
+        // Arrange - Fixed clock on 2025-09-19
+        ClientCalculationService fixedService = new ClientCalculationService(
+                Clock.fixed(LocalDate.of(2025, 9, 19).atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
+        LocalDate young = LocalDate.of(1993, 5, 15);
+        LocalDate senior = LocalDate.of(1940, 1, 1);
+
+        // Act
+        Map<LocalDate, ClientDerivedFields> derived = fixedService.calculateDerivedFields(List.of(young, senior, young));
+
+        // Assert
+        assertThat(derived).hasSize(2);
+        assertThat(derived.get(young)).isEqualTo(new ClientDerivedFields(
+                32, LocalDate.of(2058, 9, 19), LocalDate.of(2071, 9, 19), 33, 46));
+        assertThat(derived.get(senior)).isEqualTo(new ClientDerivedFields(
+                85, LocalDate.of(2025, 9, 19), LocalDate.of(2030, 9, 19), 0, 0));
+    }
+
+    @Test
+    @DisplayName("Should match the single-value calculations")
+    void calculateDerivedFields_ShouldMatchSingleValueMethods() {
+        // Arrange
+        LocalDate birthDate = LocalDate.now().minusYears(40).minusDays(3);
+
+        // Act
+        ClientDerivedFields derived = clientCalculationService.calculateDerivedFields(
+                birthDate, clientCalculationService.today());
+
+        // Assert
+        assertThat(derived.currentAge()).isEqualTo(clientCalculationService.calculateCurrentAge(birthDate));
+        assertThat(derived.estimatedRetirementDate()).isEqualTo(clientCalculationService.calculateRetirementDate(birthDate));
+        assertThat(derived.estimatedLifeExpectancy()).isEqualTo(clientCalculationService.calculateLifeExpectancy(birthDate));
+        assertThat(derived.yearsToRetirement()).isEqualTo(clientCalculationService.calculateYearsToRetirement(birthDate));
+        assertThat(derived.estimatedRemainingYears()).isEqualTo(clientCalculationService.calculateRemainingYears(birthDate));
+    }
+
+    @Test
+    @DisplayName("Should memoize by birth date within a day and recompute on the next day")
+    void calculateDerivedFields_ShouldMemoizePerDay() {
+        // Arrange - Birthday falls on the second day
+        LocalDate birthDate = LocalDate.of(1990, 6, 2);
+        LocalDate dayOne = LocalDate.of(2025, 6, 1);
+        LocalDate dayTwo = LocalDate.of(2025, 6, 2);
+
+        // Act
+        ClientDerivedFields first = clientCalculationService.calculateDerivedFields(birthDate, dayOne);
+        ClientDerivedFields again = clientCalculationService.calculateDerivedFields(birthDate, dayOne);
+        ClientDerivedFields nextDay = clientCalculationService.calculateDerivedFields(birthDate, dayTwo);
+        ClientDerivedFields lateRequest = clientCalculationService.calculateDerivedFields(birthDate, dayOne);
+
+        // Assert
+        assertThat(again).isSameAs(first);
+        assertThat(first.currentAge()).isEqualTo(34);
+        assertThat(nextDay.currentAge()).isEqualTo(35);
+        assertThat(lateRequest).isEqualTo(first);
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.management_selection_admin_seek.service;
+
+import com.example.management_selection_admin_seek.entity.Client;
+import com.example.management_selection_admin_seek.repository.ClientRepository;
+import com.example.management_selection_admin_seek.repository.projection.ClientDataMarker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ClientDataVersion
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ClientDataVersion Tests")
+class ClientDataVersionTest {
+
+    private static final LocalDateTime LAST_UPDATE = LocalDateTime.of(2025, 9, 19, 10, 0);
+
+    @Mock
+    private ClientRepository clientRepository;
+
+    private ClientDataVersion dataVersion;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(Instant.parse("2025-09-19T12:00:00Z"), ZoneOffset.UTC);
+        dataVersion = new ClientDataVersion(clientRepository, clock);
+    }
+
+    @Test
+    @DisplayName("Should have no validators before loading from the database")
+    void currentValidators_BeforeInitialize_ShouldBeNull() {
+        assertThat(dataVersion.currentValidators()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should derive validators from the last update and row count")
+    void currentValidators_AfterInitialize_ShouldUseLastUpdate() {
+        // Arrange
+        when(clientRepository.findDataMarker()).thenReturn(new ClientDataMarker(LAST_UPDATE, 3L));
+
+        // Act
+        dataVersion.initialize();
+        ClientDataVersion.Validators validators = dataVersion.currentValidators();
+
+        // Assert
+        assertThat(validators.eTag()).startsWith("W/\"clients-3-");
+        assertThat(validators.lastModified()).isEqualTo(LAST_UPDATE.toInstant(ZoneOffset.UTC).toEpochMilli());
+        verify(clientRepository, times(1)).findDataMarker();
+    }
+
+    @Test
+    @DisplayName("Should change the ETag when a client is recorded")
+    void record_ShouldChangeValidators() {
+        // Arrange
+        when(clientRepository.findDataMarker()).thenReturn(new ClientDataMarker(LAST_UPDATE, 3L));
+        dataVersion.initialize();
+        ClientDataVersion.Validators before = dataVersion.currentValidators();
+        Client created = Client.builder().id(4L).updateDate(LAST_UPDATE.plusMinutes(30)).build();
+
+        // Act
+        dataVersion.record(created);
+        ClientDataVersion.Validators after = dataVersion.currentValidators();
+
+        // Assert
+        assertThat(after.eTag()).isNotEqualTo(before.eTag()).startsWith("W/\"clients-4-");
+        assertThat(after.lastModified()).isEqualTo(before.lastModified() + 30 * 60 * 1000);
+    }
+
+    @Test
+    @DisplayName("Should not report a last modified time before the start of today")
+    void currentValidators_OldData_ShouldUseStartOfToday() {
+        // Arrange - derived fields change at midnight even when no client does
+        when(clientRepository.findDataMarker()).thenReturn(new ClientDataMarker(LAST_UPDATE.minusDays(10), 3L));
+
+        // Act
+        dataVersion.initialize();
+
+        // Assert
+        assertThat(dataVersion.currentValidators().lastModified())
+                .isEqualTo(Instant.parse("2025-09-19T00:00:00Z").toEpochMilli());
+    }
+
+    @Test
+    @DisplayName("Should handle an empty clients table")
+    void currentValidators_EmptyTable_ShouldStillProvideValidators() {
+        // Arrange
+        when(clientRepository.findDataMarker()).thenReturn(new ClientDataMarker(null, 0L));
+
+        // Act
+        dataVersion.initialize();
+
+        // Assert
+        assertThat(dataVersion.currentValidators().eTag()).startsWith("W/\"clients-0-0-");
+    }
+}
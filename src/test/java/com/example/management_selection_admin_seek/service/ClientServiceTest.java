@@ -1,24 +1,60 @@
 package com.example.management_selection_admin_seek.service;
 
+import com.example.management_selection_admin_seek.config.CacheConfig;
+import com.example.management_selection_admin_seek.config.ClientPageKey;
+import com.example.management_selection_admin_seek.dto.ClientAgeDistributionResponse;
+import com.example.management_selection_admin_seek.dto.ClientCountResponse;
 import com.example.management_selection_admin_seek.dto.ClientCreateRequest;
+import com.example.management_selection_admin_seek.dto.ClientCursorPageResponse;
 import com.example.management_selection_admin_seek.dto.ClientDetailResponse;
 import com.example.management_selection_admin_seek.dto.ClientMetricsResponse;
 import com.example.management_selection_admin_seek.dto.ClientResponse;
 import com.example.management_selection_admin_seek.entity.Client;
+import com.example.management_selection_admin_seek.enums.ClientCursorOrder;
+import com.example.management_selection_admin_seek.enums.ClientExportFormat;
 import com.example.management_selection_admin_seek.exception.BusinessException;
 import com.example.management_selection_admin_seek.mapper.ClientMapper;
 import com.example.management_selection_admin_seek.repository.ClientRepository;
+import com.example.management_selection_admin_seek.repository.projection.AgeFrequency;
+import com.example.management_selection_admin_seek.repository.projection.ClientAgeAggregate;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -44,9 +80,33 @@ class ClientServiceTest {
     @Mock
     private AsyncProcessingService asyncProcessingService;
 
+    @Mock
+    private ClientAgeHistogram ageHistogram;
+
+    @Mock
+    private ClientCacheInvalidator cacheInvalidator;
+
+    @Mock
+    private ClientDataVersion clientDataVersion;
+
+    @Mock
+    private ClientInvalidationBus invalidationBus;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .setSerializationInclusion(JsonInclude.Include.NON_NULL);
+
     @InjectMocks
     private ClientService clientService;
 
+    private static final ClientDerivedFields DERIVED_FIELDS = new ClientDerivedFields(
+            32, LocalDate.of(2058, 5, 15), LocalDate.of(2071, 5, 15), 33, 46);
+
     private ClientCreateRequest validRequest;
     private Client validClient;
     private ClientResponse expectedResponse;
@@ -54,6 +114,7 @@ class ClientServiceTest {
     @BeforeEach
     void setUp() {
         LocalDate birthDate = LocalDate.of(1993, 5, 15);
+        lenient().when(calculationService.today()).thenReturn(LocalDate.of(2025, 9, 19));
         
         validRequest = ClientCreateRequest.builder()
                 .name("John")
@@ -100,6 +161,58 @@ class ClientServiceTest {
         verify(clientMapper).toEntity(validRequest);
         verify(clientRepository).save(validClient);
         verify(clientMapper).toResponse(validClient);
+        verify(ageHistogram).record(validClient);
+        verify(clientDataVersion).record(validClient);
+        verify(cacheInvalidator).onClientCreated(validClient);
+        verify(invalidationBus).publishClientCreated(validClient);
+    }
+
+    @Test
+    @DisplayName("Should apply a client created on another instance to the local histogram and caches")
+    void onPeerClientCreated_ClientFound_ShouldApplyLocally() {
+        // Arrange
+        when(clientRepository.findById(1L)).thenReturn(Optional.of(validClient));
+
+        // Act
+        clientService.onPeerClientCreated(new PeerClientCreatedEvent(1L, "node-b"));
+
+        // Assert
+        verify(ageHistogram).record(validClient);
+        verify(clientDataVersion).record(validClient);
+        verify(cacheInvalidator).onClientCreated(validClient);
+        verify(invalidationBus, never()).publishClientCreated(any());
+    }
+
+    @Test
+    @DisplayName("Should clear the client caches when a peer client cannot be read back")
+    void onPeerClientCreated_ClientMissing_ShouldEvictAll() {
+        // Arrange
+        when(clientRepository.findById(1L)).thenReturn(Optional.empty());
+
+        // Act
+        clientService.onPeerClientCreated(new PeerClientCreatedEvent(1L, "node-b"));
+
+        // Assert
+        verify(cacheInvalidator).evictAll();
+        verify(ageHistogram, never()).record(any());
+    }
+
+    @Test
+    @DisplayName("Should leave cached metrics to be rebuilt on read instead of snapshotting on every insert")
+    void createClient_HistogramInitialized_ShouldNotBuildMetrics() {
+        // Arrange
+        when(clientMapper.toEntity(validRequest)).thenReturn(validClient);
+        when(clientRepository.save(validClient)).thenReturn(validClient);
+        when(clientMapper.toResponse(validClient)).thenReturn(expectedResponse);
+
+        // Act
+        clientService.createClient(validRequest);
+
+        // Assert
+        verify(ageHistogram).record(validClient);
+        verify(ageHistogram, never()).snapshot();
+        verify(cacheInvalidator).onClientCreated(validClient);
+        verify(clientRepository, never()).findAgeAggregate();
     }
 
     @Test
@@ -120,6 +233,26 @@ class ClientServiceTest {
 
         // Verify that save was never called
         verify(clientRepository, never()).save(any(Client.class));
+        verifyNoInteractions(ageHistogram, cacheInvalidator);
+    }
+
+    @Test
+    @DisplayName("Should validate the age against the business date, not the system date")
+    void createClient_AgeValidation_ShouldUseBusinessDate() {
+        // Arrange - the day before the 32nd birthday the calculated age is 31, so 33 is out of tolerance
+        when(calculationService.today()).thenReturn(LocalDate.of(2025, 5, 14));
+        ClientCreateRequest request = ClientCreateRequest.builder()
+                .name("John")
+                .lastName("Doe")
+                .age(33)
+                .birthDate(LocalDate.of(1993, 5, 15))
+                .build();
+
+        // Act & Assert
+        assertThatThrownBy(() -> clientService.createClient(request))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("Calculated age: 31");
+        verify(clientRepository, never()).save(any(Client.class));
     }
 
     @Test
@@ -162,9 +295,8 @@ class ClientServiceTest {
 
         when(clientRepository.findAll()).thenReturn(clients);
         when(clientMapper.toDetailResponse(validClient)).thenReturn(detailResponse);
-        when(calculationService.calculateCurrentAge(any())).thenReturn(32);
-        when(calculationService.calculateRetirementDate(any())).thenReturn(LocalDate.of(2058, 5, 15));
-        when(calculationService.calculateLifeExpectancy(any())).thenReturn(LocalDate.of(2073, 5, 15));
+        when(calculationService.calculateDerivedFields(List.of(LocalDate.of(1993, 5, 15))))
+                .thenReturn(Map.of(LocalDate.of(1993, 5, 15), DERIVED_FIELDS));
 
         // Act
         List<ClientDetailResponse> result = clientService.getAllClientsWithDetails();
@@ -174,24 +306,25 @@ class ClientServiceTest {
         ClientDetailResponse response = result.get(0);
         assertThat(response.getId()).isEqualTo(1L);
         assertThat(response.getName()).isEqualTo("John");
+        assertThat(response.getCalculatedCurrentAge()).isEqualTo(32);
+        assertThat(response.getEstimatedRetirementDate()).isEqualTo(LocalDate.of(2058, 5, 15));
+        assertThat(response.getEstimatedLifeExpectancy()).isEqualTo(LocalDate.of(2071, 5, 15));
+        assertThat(response.getYearsToRetirement()).isEqualTo(33);
+        assertThat(response.getEstimatedRemainingYears()).isEqualTo(46);
 
         verify(clientRepository).findAll();
         verify(clientMapper).toDetailResponse(validClient);
-        verify(calculationService).calculateCurrentAge(LocalDate.of(1993, 5, 15));
-        verify(calculationService).calculateRetirementDate(LocalDate.of(1993, 5, 15));
-        verify(calculationService).calculateLifeExpectancy(LocalDate.of(1993, 5, 15));
+        // Whole batch computed in one call, never per field
+        verify(calculationService).calculateDerivedFields(List.of(LocalDate.of(1993, 5, 15)));
+        verify(calculationService, never()).calculateCurrentAge(any());
+        verify(calculationService, never()).calculateRetirementDate(any());
     }
 
     @Test
     @DisplayName("Should calculate client metrics correctly")
     void getClientMetrics_ShouldReturnCorrectMetrics() {
         // Arrange
-        List<Integer> ages = Arrays.asList(25, 30, 35, 40, 45);
-        when(clientRepository.findAverageAge()).thenReturn(35.0);
-        when(clientRepository.findAllAges()).thenReturn(ages);
-        when(clientRepository.findMinAge()).thenReturn(25);
-        when(clientRepository.findMaxAge()).thenReturn(45);
-        when(clientRepository.count()).thenReturn(5L);
+        when(clientRepository.findAgeAggregate()).thenReturn(aggregateOf(25, 30, 35, 40, 45));
 
         // Act
         ClientMetricsResponse result = clientService.getClientMetrics();
@@ -205,23 +338,14 @@ class ClientServiceTest {
         assertThat(result.getMedianAge()).isEqualTo(35.0); // Middle value of 5 elements
         assertThat(result.getStandardDeviationAge()).isPositive();
 
-        verify(clientRepository).findAverageAge();
-        verify(clientRepository).findAllAges();
-        verify(clientRepository).findMinAge();
-        verify(clientRepository).findMaxAge();
-        verify(clientRepository).count();
+        verify(clientRepository, times(1)).findAgeAggregate();
     }
 
     @Test
     @DisplayName("Should calculate standard deviation correctly")
     void getClientMetrics_ShouldCalculateStandardDeviationCorrectly() {
         // Arrange - Using known values for easy verification
-        List<Integer> ages = Arrays.asList(20, 30, 40); // Mean = 30, SD = 10
-        when(clientRepository.findAverageAge()).thenReturn(30.0);
-        when(clientRepository.findAllAges()).thenReturn(ages);
-        when(clientRepository.findMinAge()).thenReturn(20);
-        when(clientRepository.findMaxAge()).thenReturn(40);
-        when(clientRepository.count()).thenReturn(3L);
+        when(clientRepository.findAgeAggregate()).thenReturn(aggregateOf(20, 30, 40)); // Mean = 30, SD = 10
 
         // Act
         ClientMetricsResponse result = clientService.getClientMetrics();
@@ -235,12 +359,7 @@ class ClientServiceTest {
     @DisplayName("Should calculate median correctly for odd number of clients")
     void getClientMetrics_OddNumberOfClients_ShouldCalculateMedianCorrectly() {
         // Arrange
-        List<Integer> ages = Arrays.asList(20, 25, 30, 35, 40); // Median should be 30
-        when(clientRepository.findAverageAge()).thenReturn(30.0);
-        when(clientRepository.findAllAges()).thenReturn(ages);
-        when(clientRepository.findMinAge()).thenReturn(20);
-        when(clientRepository.findMaxAge()).thenReturn(40);
-        when(clientRepository.count()).thenReturn(5L);
+        when(clientRepository.findAgeAggregate()).thenReturn(aggregateOf(20, 25, 30, 35, 40)); // Median should be 30
 
         // Act
         ClientMetricsResponse result = clientService.getClientMetrics();
@@ -253,12 +372,7 @@ class ClientServiceTest {
     @DisplayName("Should calculate median correctly for even number of clients")
     void getClientMetrics_EvenNumberOfClients_ShouldCalculateMedianCorrectly() {
         // Arrange
-        List<Integer> ages = Arrays.asList(20, 25, 35, 40); // Median should be (25+35)/2 = 30
-        when(clientRepository.findAverageAge()).thenReturn(30.0);
-        when(clientRepository.findAllAges()).thenReturn(ages);
-        when(clientRepository.findMinAge()).thenReturn(20);
-        when(clientRepository.findMaxAge()).thenReturn(40);
-        when(clientRepository.count()).thenReturn(4L);
+        when(clientRepository.findAgeAggregate()).thenReturn(aggregateOf(20, 25, 35, 40)); // Median should be (25+35)/2 = 30
 
         // Act
         ClientMetricsResponse result = clientService.getClientMetrics();
@@ -271,7 +385,7 @@ class ClientServiceTest {
     @DisplayName("Should handle empty client list gracefully")
     void getClientMetrics_EmptyClientList_ShouldReturnZeroMetrics() {
         // Arrange
-        when(clientRepository.count()).thenReturn(0L);
+        when(clientRepository.findAgeAggregate()).thenReturn(aggregateOf());
 
         // Act
         ClientMetricsResponse result = clientService.getClientMetrics();
@@ -284,4 +398,337 @@ class ClientServiceTest {
         assertThat(result.getMedianAge()).isEqualTo(0.0);
         assertThat(result.getStandardDeviationAge()).isEqualTo(0.0);
     }
+
+    @Test
+    @DisplayName("Should serve metrics from age histogram without querying the database")
+    void getClientMetrics_HistogramInitialized_ShouldNotQueryDatabase() {
+        // Arrange - 20, 30, 30, 40
+        long[] counts = new long[AgeStatistics.AGE_SLOTS];
+        counts[20 - AgeStatistics.MIN_AGE] = 1;
+        counts[30 - AgeStatistics.MIN_AGE] = 2;
+        counts[40 - AgeStatistics.MIN_AGE] = 1;
+        when(ageHistogram.isInitialized()).thenReturn(true);
+        when(ageHistogram.snapshot()).thenReturn(new AgeStatistics(counts));
+
+        // Act
+        ClientMetricsResponse result = clientService.getClientMetrics();
+
+        // Assert
+        assertThat(result.getTotalClients()).isEqualTo(4L);
+        assertThat(result.getAverageAge()).isEqualTo(30.0);
+        assertThat(result.getStandardDeviationAge()).isCloseTo(7.07, within(0.01));
+        assertThat(result.getMinAge()).isEqualTo(20);
+        assertThat(result.getMaxAge()).isEqualTo(40);
+        assertThat(result.getMedianAge()).isEqualTo(30.0);
+        verifyNoInteractions(clientRepository);
+    }
+
+    @Test
+    @DisplayName("Should compute percentiles and histogram from the age frequency table")
+    void getAgeDistribution_ShouldReturnPercentilesAndBuckets() {
+        // Arrange
+        when(clientRepository.findAgeAggregate()).thenReturn(aggregateOf(20, 25, 30, 35, 40));
+
+        // Act
+        ClientAgeDistributionResponse result = clientService.getAgeDistribution(10, List.of(25.0, 50.0, 99.5));
+
+        // Assert
+        assertThat(result.getTotalClients()).isEqualTo(5L);
+        assertThat(result.getBucketWidth()).isEqualTo(10);
+        assertThat(result.getPercentiles()).containsExactly(
+                entry("p25", 25.0),
+                entry("p50", 30.0),
+                entry("p99.5", 39.9));
+        assertThat(result.getHistogram()).hasSize(11);
+        assertThat(result.getHistogram().get(0).getFromAge()).isEqualTo(18);
+        assertThat(result.getHistogram().get(0).getToAge()).isEqualTo(27);
+        assertThat(result.getHistogram().get(0).getCount()).isEqualTo(2L);
+        assertThat(result.getHistogram().get(10).getToAge()).isEqualTo(120);
+    }
+
+    @Test
+    @DisplayName("Should reject invalid bucket width")
+    void getAgeDistribution_InvalidBucketWidth_ShouldThrowBusinessException() {
+        assertThatThrownBy(() -> clientService.getAgeDistribution(0, List.of(50.0)))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("Bucket width");
+
+        verifyNoInteractions(clientRepository);
+    }
+
+    @Test
+    @DisplayName("Should reject percentiles outside 0-100")
+    void getAgeDistribution_InvalidPercentile_ShouldThrowBusinessException() {
+        assertThatThrownBy(() -> clientService.getAgeDistribution(5, List.of(50.0, 150.0)))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("Percentile 150.0");
+
+        verifyNoInteractions(clientRepository);
+    }
+
+    @Test
+    @DisplayName("Should reject percentiles that are not finite numbers")
+    void getAgeDistribution_NaNPercentile_ShouldThrowBusinessException() {
+        assertThatThrownBy(() -> clientService.getAgeDistribution(5, List.of(Double.NaN)))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("Percentile NaN");
+
+        verifyNoInteractions(clientRepository);
+    }
+
+    @Test
+    @DisplayName("Should return client slice without issuing a count query")
+    void getClientsSlice_ShouldNotCountClients() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 2);
+        when(clientRepository.findAllBy(pageable))
+                .thenReturn(new SliceImpl<>(List.of(clientWithId(1L), clientWithId(2L)), pageable, true));
+        stubDetailMapping();
+
+        // Act
+        Slice<ClientDetailResponse> result = clientService.getClientsSlice(pageable);
+
+        // Assert
+        assertThat(result.getContent()).extracting(ClientDetailResponse::getId).containsExactly(1L, 2L);
+        assertThat(result.hasNext()).isTrue();
+        verify(clientRepository, never()).count();
+        verify(clientRepository, never()).findAll(any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("Should rebuild a cached slice from its key for a background refresh")
+    void reload_SliceKey_ShouldQueryTheSlice() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 2);
+        when(clientRepository.findAllBy(pageable))
+                .thenReturn(new SliceImpl<>(List.of(clientWithId(1L), clientWithId(2L)), pageable, true));
+        stubDetailMapping();
+
+        // Act
+        Object reloaded = clientService.reload(CacheConfig.CLIENTS_CACHE,
+                new ClientPageKey(ClientPageKey.View.SLICE, 0, 2, Sort.unsorted()));
+
+        // Assert
+        assertThat(reloaded).isInstanceOfSatisfying(Slice.class,
+                slice -> assertThat(slice.getContent()).hasSize(2));
+        verify(clientRepository, never()).findAll(any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("Should refuse to reload keys it does not own")
+    void reload_UnknownKey_ShouldThrow() {
+        assertThatThrownBy(() -> clientService.reload(CacheConfig.USERS_CACHE, "testuser"))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verifyNoInteractions(clientRepository);
+    }
+
+    @Test
+    @DisplayName("Should return client count from the histogram without querying the database")
+    void getClientCount_HistogramInitialized_ShouldNotQueryDatabase() {
+        // Arrange
+        when(ageHistogram.isInitialized()).thenReturn(true);
+        when(ageHistogram.getTotal()).thenReturn(42L);
+
+        // Act
+        ClientCountResponse result = clientService.getClientCount();
+
+        // Assert
+        assertThat(result.getTotalClients()).isEqualTo(42L);
+        verifyNoInteractions(clientRepository);
+    }
+
+    @Test
+    @DisplayName("Should fall back to a count query while the histogram is loading")
+    void getClientCount_HistogramNotInitialized_ShouldCountClients() {
+        // Arrange
+        when(ageHistogram.isInitialized()).thenReturn(false);
+        when(clientRepository.count()).thenReturn(7L);
+
+        // Act
+        ClientCountResponse result = clientService.getClientCount();
+
+        // Assert
+        assertThat(result.getTotalClients()).isEqualTo(7L);
+        verify(clientRepository).count();
+    }
+
+    @Test
+    @DisplayName("Should stream clients as NDJSON, detaching each row and closing the stream")
+    void exportClients_Ndjson_ShouldWriteOneObjectPerLine() throws Exception {
+        // Arrange
+        AtomicBoolean streamClosed = new AtomicBoolean();
+        Client first = clientWithId(1L);
+        Client second = clientWithId(2L);
+        when(clientRepository.streamAllForExport())
+                .thenReturn(Stream.of(first, second).onClose(() -> streamClosed.set(true)));
+        stubDetailMapping();
+        LocalDate today = LocalDate.of(2025, 9, 19);
+        when(calculationService.today()).thenReturn(today);
+        when(calculationService.calculateDerivedFields(any(LocalDate.class), eq(today))).thenReturn(DERIVED_FIELDS);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // Act
+        long exported = clientService.exportClients(ClientExportFormat.NDJSON, output);
+
+        // Assert
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(exported).isEqualTo(2L);
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).startsWith("{\"id\":1,\"birthDate\":\"1993-05-15\"").contains("\"calculatedCurrentAge\":32");
+        assertThat(lines[1]).startsWith("{\"id\":2,").endsWith("}");
+        assertThat(streamClosed).isTrue();
+        verify(entityManager).detach(first);
+        verify(entityManager).detach(second);
+        verify(calculationService, times(1)).today();
+        verify(clientRepository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("Should flush the output stream once per export, not once per row")
+    void exportClients_Ndjson_ShouldFlushOnce() throws Exception {
+        // Arrange
+        List<Client> clients = LongStream.rangeClosed(1, 1_000).mapToObj(this::clientWithId).toList();
+        when(clientRepository.streamAllForExport()).thenReturn(clients.stream());
+        stubDetailMapping();
+        when(calculationService.calculateDerivedFields(any(LocalDate.class), any())).thenReturn(DERIVED_FIELDS);
+        AtomicInteger flushes = new AtomicInteger();
+        OutputStream output = new FilterOutputStream(new ByteArrayOutputStream()) {
+            @Override
+            public void flush() throws IOException {
+                flushes.incrementAndGet();
+                super.flush();
+            }
+        };
+
+        // Act
+        long exported = clientService.exportClients(ClientExportFormat.NDJSON, output);
+
+        // Assert
+        assertThat(exported).isEqualTo(1_000L);
+        assertThat(flushes).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should stream clients as CSV with a header and quoted values")
+    void exportClients_Csv_ShouldWriteHeaderAndQuoteValues() throws Exception {
+        // Arrange
+        when(clientRepository.streamAllForExport()).thenReturn(Stream.of(clientWithId(1L)));
+        when(clientMapper.toDetailResponse(any(Client.class))).thenReturn(ClientDetailResponse.builder()
+                .id(1L)
+                .name("John")
+                .lastName("Doe, \"Jr\"")
+                .build());
+        when(calculationService.calculateDerivedFields(any(LocalDate.class), any())).thenReturn(DERIVED_FIELDS);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // Act
+        long exported = clientService.exportClients(ClientExportFormat.CSV, output);
+
+        // Assert
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(exported).isEqualTo(1L);
+        assertThat(lines[0]).isEqualTo(ClientExportWriter.CSV_HEADER);
+        assertThat(lines[1]).startsWith("1,John,\"Doe, \"\"Jr\"\"\",");
+    }
+
+    @Test
+    @DisplayName("Should return first cursor page with next cursor when more clients exist")
+    void getClientsByCursor_FirstPage_ShouldReturnNextCursor() {
+        // Arrange - page size 2, repository returns 3 rows (one extra)
+        List<Client> clients = List.of(clientWithId(1L), clientWithId(2L), clientWithId(3L));
+        when(clientRepository.findNextByIdAsc(0L, PageRequest.ofSize(3))).thenReturn(clients);
+        stubDetailMapping();
+
+        // Act
+        ClientCursorPageResponse result = clientService.getClientsByCursor(null, ClientCursorOrder.ID_ASC, 2);
+
+        // Assert
+        assertThat(result.getContent()).extracting(ClientDetailResponse::getId).containsExactly(1L, 2L);
+        assertThat(result.getHasNext()).isTrue();
+        assertThat(ClientCursor.decode(result.getNextCursor()))
+                .isEqualTo(new ClientCursor(ClientCursorOrder.ID_ASC, 2L, null));
+        verify(clientRepository, never()).count();
+    }
+
+    @Test
+    @DisplayName("Should seek from cursor position on birth date ordering")
+    void getClientsByCursor_BirthDateCursor_ShouldSeekFromPosition() {
+        // Arrange
+        LocalDate lastBirthDate = LocalDate.of(1990, 1, 1);
+        String cursor = new ClientCursor(ClientCursorOrder.BIRTH_DATE_DESC, 7L, lastBirthDate).encode();
+        when(clientRepository.findNextByBirthDateDesc(lastBirthDate, 7L, PageRequest.ofSize(21)))
+                .thenReturn(List.of(clientWithId(5L)));
+        stubDetailMapping();
+
+        // Act
+        ClientCursorPageResponse result = clientService.getClientsByCursor(cursor, ClientCursorOrder.BIRTH_DATE_DESC, 20);
+
+        // Assert
+        assertThat(result.getContent()).hasSize(1);
+        assertThat(result.getHasNext()).isFalse();
+        assertThat(result.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should reject malformed cursor")
+    void getClientsByCursor_MalformedCursor_ShouldThrowBusinessException() {
+        assertThatThrownBy(() -> clientService.getClientsByCursor("not-a-cursor", ClientCursorOrder.ID_ASC, 20))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Invalid pagination cursor");
+
+        verifyNoInteractions(clientRepository);
+    }
+
+    @Test
+    @DisplayName("Should reject cursor issued for a different ordering")
+    void getClientsByCursor_OrderMismatch_ShouldThrowBusinessException() {
+        // Arrange
+        String cursor = new ClientCursor(ClientCursorOrder.ID_DESC, 10L, null).encode();
+
+        // Act & Assert
+        assertThatThrownBy(() -> clientService.getClientsByCursor(cursor, ClientCursorOrder.ID_ASC, 20))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("ID_DESC");
+
+        verifyNoInteractions(clientRepository);
+    }
+
+    private Client clientWithId(Long id) {
+        return Client.builder()
+                .id(id)
+                .name("John")
+                .lastName("Doe")
+                .age(31)
+                .birthDate(LocalDate.of(1993, 5, 15))
+                .build();
+    }
+
+    private void stubDetailMapping() {
+        when(clientMapper.toDetailResponse(any(Client.class))).thenAnswer(invocation -> {
+            Client client = invocation.getArgument(0);
+            return ClientDetailResponse.builder()
+                    .id(client.getId())
+                    .birthDate(client.getBirthDate())
+                    .build();
+        });
+        lenient().when(calculationService.calculateDerivedFields(anyCollection())).thenAnswer(invocation -> {
+            Collection<LocalDate> birthDates = invocation.getArgument(0);
+            Map<LocalDate, ClientDerivedFields> derived = new HashMap<>();
+            birthDates.forEach(birthDate -> derived.put(birthDate, DERIVED_FIELDS));
+            return derived;
+        });
+    }
+
+    /**
+     * Build the single-query aggregate projection for the given ages
+     */
+    private static ClientAgeAggregate aggregateOf(Integer... ages) {
+        Map<Integer, Long> counts = Arrays.stream(ages)
+                .collect(Collectors.groupingBy(Function.identity(), TreeMap::new, Collectors.counting()));
+        List<AgeFrequency> frequencies = counts.entrySet().stream()
+                .map(entry -> new AgeFrequency(entry.getKey(), entry.getValue()))
+                .toList();
+        return ClientAgeAggregate.from(frequencies);
+    }
 }
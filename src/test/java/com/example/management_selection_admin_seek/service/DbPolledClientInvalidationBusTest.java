@@ -0,0 +1,212 @@
+package com.example.management_selection_admin_seek.service;
+
+import com.example.management_selection_admin_seek.entity.Client;
+import com.example.management_selection_admin_seek.entity.ClientChangeLog;
+import com.example.management_selection_admin_seek.repository.ClientChangeLogRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for DbPolledClientInvalidationBus
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DbPolledClientInvalidationBus Tests")
+class DbPolledClientInvalidationBusTest {
+
+    private static final String NODE = "node-a";
+    private static final String PEER = "node-b";
+    private static final Instant T0 = Instant.parse("2025-01-15T10:00:00Z");
+    private static final LocalDateTime T0_LOCAL = LocalDateTime.ofInstant(T0, ZoneOffset.UTC);
+    private static final Duration COMMIT_SLACK = Duration.ofSeconds(30);
+
+    @Mock
+    private ClientChangeLogRepository changeLogRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private Clock clock;
+
+    @Test
+    @DisplayName("Should log a created client under this node, stamped by the application clock")
+    void publishClientCreated_ShouldSaveChangeRow() {
+        // Arrange
+        DbPolledClientInvalidationBus bus = bus(500, T0);
+
+        // Act
+        bus.publishClientCreated(Client.builder().id(7L).build());
+
+        // Assert
+        ArgumentCaptor<ClientChangeLog> change = ArgumentCaptor.forClass(ClientChangeLog.class);
+        verify(changeLogRepository).save(change.capture());
+        assertThat(change.getValue().getClientId()).isEqualTo(7L);
+        assertThat(change.getValue().getOriginNode()).isEqualTo(NODE);
+        assertThat(change.getValue().getCreatedAt()).isEqualTo(T0_LOCAL);
+    }
+
+    @Test
+    @DisplayName("Should not poll before the starting position is known")
+    void poll_BeforeStart_ShouldDoNothing() {
+        // Arrange
+        DbPolledClientInvalidationBus bus = new DbPolledClientInvalidationBus(changeLogRepository, eventPublisher,
+                new SimpleMeterRegistry(), clock, NODE, 500, COMMIT_SLACK, Duration.ofHours(1));
+
+        // Act
+        bus.poll();
+
+        // Assert
+        verifyNoInteractions(changeLogRepository, eventPublisher, clock);
+    }
+
+    @Test
+    @DisplayName("Should deliver changes from other nodes and skip its own")
+    void poll_ShouldDeliverPeerChangesOnly() {
+        // Arrange
+        DbPolledClientInvalidationBus bus = bus(500, T0, T0.plusSeconds(2));
+        bus.start();
+        when(changeLogRepository.findByCreatedAtGreaterThanEqualAndIdGreaterThanOrderByIdAsc(
+                eq(T0_LOCAL.minus(COMMIT_SLACK)), eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(change(11L, 101L, PEER, T0_LOCAL), change(12L, 102L, NODE, T0_LOCAL)));
+
+        // Act
+        bus.poll();
+
+        // Assert
+        verify(eventPublisher).publishEvent(new PeerClientCreatedEvent(101L, PEER));
+        verifyNoMoreInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Should not deliver changes already visible when polling starts")
+    void start_ShouldMarkVisibleChangesDelivered() {
+        // Arrange
+        DbPolledClientInvalidationBus bus = bus(500, T0, T0.plusSeconds(2));
+        when(changeLogRepository.findByCreatedAtGreaterThanEqualAndIdGreaterThanOrderByIdAsc(
+                eq(T0_LOCAL.minus(COMMIT_SLACK)), eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(change(11L, 101L, PEER, T0_LOCAL)));
+
+        // Act
+        bus.start();
+        bus.poll();
+
+        // Assert
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Should deliver a late committed row exactly once however many later ids were read")
+    void poll_LateCommitBehindManyRows_ShouldDeliverOnce() {
+        // Arrange - row 11 commits after rows 12..600 were already read
+        DbPolledClientInvalidationBus bus = bus(1_000, T0, T0.plusSeconds(2), T0.plusSeconds(4));
+        List<ClientChangeLog> burst = LongStream.rangeClosed(12, 600)
+                .mapToObj(id -> change(id, 1_000 + id, PEER, T0_LOCAL))
+                .toList();
+        List<ClientChangeLog> withLateRow = new ArrayList<>();
+        withLateRow.add(change(11L, 1_011L, PEER, T0_LOCAL));
+        withLateRow.addAll(burst);
+        when(changeLogRepository.findByCreatedAtGreaterThanEqualAndIdGreaterThanOrderByIdAsc(
+                any(LocalDateTime.class), eq(0L), any(Pageable.class)))
+                .thenReturn(List.of())
+                .thenReturn(burst)
+                .thenReturn(withLateRow);
+
+        // Act
+        bus.start();
+        bus.poll();
+        bus.poll();
+
+        // Assert
+        verify(eventPublisher, times(1)).publishEvent(new PeerClientCreatedEvent(1_011L, PEER));
+        verify(eventPublisher, times(1)).publishEvent(new PeerClientCreatedEvent(1_012L, PEER));
+        verify(eventPublisher, times(590)).publishEvent(any(PeerClientCreatedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Should page through a window larger than the batch size")
+    void poll_WindowLargerThanBatch_ShouldReadEveryPage() {
+        // Arrange
+        DbPolledClientInvalidationBus bus = bus(2, T0, T0.plusSeconds(2));
+        LocalDateTime since = T0_LOCAL.minus(COMMIT_SLACK);
+        when(changeLogRepository.findByCreatedAtGreaterThanEqualAndIdGreaterThanOrderByIdAsc(
+                eq(since), eq(0L), any(Pageable.class)))
+                .thenReturn(List.of())
+                .thenReturn(List.of(change(11L, 101L, PEER, T0_LOCAL), change(12L, 102L, PEER, T0_LOCAL)));
+        when(changeLogRepository.findByCreatedAtGreaterThanEqualAndIdGreaterThanOrderByIdAsc(
+                eq(since), eq(12L), any(Pageable.class)))
+                .thenReturn(List.of(change(13L, 103L, PEER, T0_LOCAL)));
+
+        // Act
+        bus.start();
+        bus.poll();
+
+        // Assert
+        verify(eventPublisher, times(3)).publishEvent(any(PeerClientCreatedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Should forget delivered ids once they fall out of the polling window")
+    void poll_OldDeliveredIds_ShouldBeForgotten() {
+        // Arrange - second poll starts a minute later, past the commit slack
+        DbPolledClientInvalidationBus bus = bus(500, T0, T0.plusSeconds(2), T0.plusSeconds(62));
+        when(changeLogRepository.findByCreatedAtGreaterThanEqualAndIdGreaterThanOrderByIdAsc(
+                any(LocalDateTime.class), eq(0L), any(Pageable.class)))
+                .thenReturn(List.of())
+                .thenReturn(List.of(change(11L, 101L, PEER, T0_LOCAL)))
+                .thenReturn(List.of());
+
+        // Act
+        bus.start();
+        bus.poll();
+        int afterFirstPoll = bus.getDeliveredCount();
+        bus.poll();
+
+        // Assert
+        assertThat(afterFirstPoll).isEqualTo(1);
+        assertThat(bus.getDeliveredCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should purge changes older than the retention period by the application clock")
+    void purge_ShouldDeleteOldChanges() {
+        // Arrange
+        DbPolledClientInvalidationBus bus = bus(500, T0);
+
+        // Act
+        bus.purge();
+
+        // Assert
+        verify(changeLogRepository).deleteOlderThan(T0_LOCAL.minusHours(1));
+    }
+
+    private DbPolledClientInvalidationBus bus(int batchSize, Instant now, Instant... later) {
+        when(clock.getZone()).thenReturn(ZoneOffset.UTC);
+        when(clock.instant()).thenReturn(now, later);
+        return new DbPolledClientInvalidationBus(changeLogRepository, eventPublisher, new SimpleMeterRegistry(),
+                clock, NODE, batchSize, COMMIT_SLACK, Duration.ofHours(1));
+    }
+
+    private static ClientChangeLog change(long id, long clientId, String originNode, LocalDateTime createdAt) {
+        return ClientChangeLog.builder().id(id).clientId(clientId).originNode(originNode).createdAt(createdAt).build();
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.management_selection_admin_seek.service;
+
+import com.example.management_selection_admin_seek.entity.Client;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for InMemoryClientInvalidationBus
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("InMemoryClientInvalidationBus Tests")
+class InMemoryClientInvalidationBusTest {
+
+    @Mock
+    private ApplicationEventPublisher nodeAEvents;
+
+    @Mock
+    private ApplicationEventPublisher nodeBEvents;
+
+    @Test
+    @DisplayName("Should deliver a created client to connected peers but not to itself")
+    void publishClientCreated_ShouldReachPeersOnly() {
+        // Arrange
+        InMemoryClientInvalidationBus nodeA = new InMemoryClientInvalidationBus(nodeAEvents);
+        InMemoryClientInvalidationBus nodeB = new InMemoryClientInvalidationBus(nodeBEvents);
+        nodeA.connect(nodeB);
+
+        // Act
+        nodeA.publishClientCreated(Client.builder().id(5L).build());
+
+        // Assert
+        ArgumentCaptor<PeerClientCreatedEvent> event = ArgumentCaptor.forClass(PeerClientCreatedEvent.class);
+        verify(nodeBEvents).publishEvent(event.capture());
+        assertThat(event.getValue().clientId()).isEqualTo(5L);
+        verifyNoInteractions(nodeAEvents);
+    }
+
+    @Test
+    @DisplayName("Should be a no-op for a single node")
+    void publishClientCreated_NoPeers_ShouldDeliverNothing() {
+        // Arrange
+        InMemoryClientInvalidationBus node = new InMemoryClientInvalidationBus(nodeAEvents);
+
+        // Act
+        node.publishClientCreated(Client.builder().id(5L).build());
+
+        // Assert
+        verifyNoInteractions(nodeAEvents);
+    }
+}
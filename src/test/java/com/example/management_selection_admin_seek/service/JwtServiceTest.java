@@ -4,6 +4,7 @@ import com.example.management_selection_admin_seek.entity.User;
 import com.example.management_selection_admin_seek.enums.Role;
 import com.example.management_selection_admin_seek.mapper.TokenMapper;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import org.junit.jupiter.api.BeforeEach;
@@ -100,12 +101,32 @@ class JwtServiceTest {
                 .thenReturn("USER");
 
         // Act
-        String refreshToken = jwtService.generateRefreshToken(testUser);
+        String refreshToken = jwtService.generateRefreshToken(testUser, "token-id");
 
         // Assert
         assertThat(refreshToken).isNotNull().isNotEmpty();
         assertThat(refreshToken.split("\\.")).hasSize(3);
         assertThat(jwtService.isTokenValid(refreshToken, testUser)).isTrue();
+        assertThat(jwtService.validateToken(refreshToken).tokenId()).isEqualTo("token-id");
+    }
+
+    @Test
+    @DisplayName("Should generate a refresh token expiring at the given time")
+    void generateRefreshToken_WithExpiration_ShouldUseIt() {
+        // Arrange
+        when(tokenMapper.mapAuthorities(testUser))
+                .thenReturn(List.of("ROLE_USER"));
+        when(tokenMapper.mapUserRole(testUser))
+                .thenReturn("USER");
+        Instant expiresAt = Instant.now().plusSeconds(600).truncatedTo(ChronoUnit.SECONDS);
+
+        // Act
+        String refreshToken = jwtService.generateRefreshToken(testUser, "token-id", expiresAt);
+
+        // Assert
+        JwtClaims claims = jwtService.validateToken(refreshToken);
+        assertThat(claims.tokenId()).isEqualTo("token-id");
+        assertThat(claims.expiresAt()).isEqualTo(expiresAt);
     }
 
     @Test
@@ -313,4 +334,47 @@ class JwtServiceTest {
         assertThatThrownBy(() -> jwtService.extractUsername(""))
                 .isInstanceOf(IllegalArgumentException.class);
     }
+
+    @Test
+    @DisplayName("Should return typed claims for a valid token")
+    void validateToken_ValidToken_ShouldReturnClaims() {
+        // Arrange
+        when(tokenMapper.mapAuthorities(testUser))
+                .thenReturn(List.of("ROLE_USER"));
+        when(tokenMapper.mapUserRole(testUser))
+                .thenReturn("USER");
+
+        String token = jwtService.generateToken(testUser);
+
+        // Act
+        JwtClaims claims = jwtService.validateToken(token);
+
+        // Assert
+        assertThat(claims.username()).isEqualTo("testuser");
+        assertThat(claims.userId()).isEqualTo(1L);
+        assertThat(claims.userRole()).isEqualTo("USER");
+        assertThat(claims.authorities()).containsExactly("ROLE_USER");
+        assertThat(claims.enabled()).isTrue();
+        assertThat(claims.fullName()).isEqualTo("Test User");
+        assertThat(claims.expiresAt()).isAfter(claims.issuedAt());
+        assertThat(claims.tokenId()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should reject expired or malformed tokens on validation")
+    void validateToken_InvalidToken_ShouldThrowJwtException() {
+        // Arrange
+        String expiredToken = Jwts.builder()
+                .subject(testUser.getUsername())
+                .issuedAt(Date.from(Instant.now().minus(2, ChronoUnit.HOURS)))
+                .expiration(Date.from(Instant.now().minus(1, ChronoUnit.HOURS)))
+                .signWith(testSecretKey)
+                .compact();
+
+        // Act & Assert
+        assertThatThrownBy(() -> jwtService.validateToken(expiredToken))
+                .isInstanceOf(JwtException.class);
+        assertThatThrownBy(() -> jwtService.validateToken("this.is.not.a.valid.jwt.token"))
+                .isInstanceOf(JwtException.class);
+    }
 }
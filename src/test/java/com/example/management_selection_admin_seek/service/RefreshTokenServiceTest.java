@@ -0,0 +1,276 @@
+package com.example.management_selection_admin_seek.service;
+
+import com.example.management_selection_admin_seek.entity.RefreshToken;
+import com.example.management_selection_admin_seek.entity.User;
+import com.example.management_selection_admin_seek.enums.Role;
+import com.example.management_selection_admin_seek.exception.InvalidTokenException;
+import com.example.management_selection_admin_seek.repository.RefreshTokenRepository;
+import io.jsonwebtoken.MalformedJwtException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for RefreshTokenService
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RefreshTokenService Tests")
+class RefreshTokenServiceTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-15T10:00:00Z");
+    private static final LocalDateTime NOW_LOCAL = LocalDateTime.ofInstant(NOW, ZoneOffset.UTC);
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Mock
+    private JwtService jwtService;
+
+    @Mock
+    private UserRevocationRegistry userRevocationRegistry;
+
+    private SimpleMeterRegistry meterRegistry;
+    private RefreshTokenService refreshTokenService;
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        refreshTokenService = new RefreshTokenService(refreshTokenRepository, jwtService, userRevocationRegistry, Clock.fixed(NOW, ZoneOffset.UTC), meterRegistry, 1_000, 0.01);
+
+        testUser = User.builder()
+                .id(1L)
+                .username("testuser")
+                .email("test@example.com")
+                .firstName("Test")
+                .lastName("User")
+                .role(Role.USER)
+                .enabled(true)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should store a new family and sign its first token with the stored id")
+    void issue_ShouldInsertTokenAndReturnSignedToken() {
+        // Arrange
+        when(jwtService.getRefreshExpiration()).thenReturn(Duration.ofDays(7));
+        when(jwtService.generateRefreshToken(eq(testUser), anyString())).thenReturn("refresh_token");
+
+        // Act
+        String token = refreshTokenService.issue(testUser);
+
+        // Assert
+        assertThat(token).isEqualTo("refresh_token");
+        verify(refreshTokenRepository).insert(anyString(), eq(1L), anyString(), eq(NOW_LOCAL.plusDays(7)), eq(NOW_LOCAL));
+        assertThat(outcome("issued")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should replace the presented token with one update and one insert, taking the user from the claims")
+    void rotate_UsableToken_ShouldMarkRotatedAndInsertReplacement() {
+        // Arrange
+        stubValidToken("old_token", "jti-1");
+        when(jwtService.getRefreshExpiration()).thenReturn(Duration.ofDays(7));
+        when(refreshTokenRepository.markRotated(eq("jti-1"), anyString(), eq(NOW_LOCAL))).thenReturn(1);
+        when(jwtService.generateRefreshToken(eq(testUser), anyString(), eq(NOW.plus(Duration.ofDays(7)))))
+                .thenReturn("new_token");
+
+        // Act
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate("old_token");
+
+        // Assert
+        assertThat(rotation.user()).isEqualTo(testUser);
+        assertThat(rotation.user().getUsername()).isEqualTo("testuser");
+        assertThat(rotation.user().getRole()).isEqualTo(Role.USER);
+        assertThat(rotation.user().isEnabled()).isTrue();
+        assertThat(rotation.user().getFullName()).isEqualTo("Test User");
+        assertThat(rotation.refreshToken()).isEqualTo("new_token");
+        verify(refreshTokenRepository).insertReplacement(anyString(), eq("jti-1"), eq(NOW_LOCAL.plusDays(7)), eq(NOW_LOCAL));
+        verify(refreshTokenRepository, never()).findById(anyString());
+        assertThat(outcome("rotated")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should not let the replacement outlive the presented token's family")
+    void rotate_TokenCloseToFamilyExpiry_ShouldCapReplacementExpiry() {
+        // Arrange - the login expires in one day, a fresh token would last seven
+        Instant familyExpiresAt = NOW.plus(Duration.ofDays(1));
+        JwtClaims claims = new JwtClaims("testuser", 1L, "USER", List.of("ROLE_USER"), true, "Test User",
+                NOW.minus(Duration.ofDays(6)), familyExpiresAt, "jti-1");
+        when(jwtService.validateToken("old_token")).thenReturn(claims);
+        when(userRevocationRegistry.isRevoked(claims)).thenReturn(false);
+        when(jwtService.getRefreshExpiration()).thenReturn(Duration.ofDays(7));
+        when(refreshTokenRepository.markRotated(eq("jti-1"), anyString(), eq(NOW_LOCAL))).thenReturn(1);
+        when(jwtService.generateRefreshToken(eq(testUser), anyString(), eq(familyExpiresAt))).thenReturn("new_token");
+
+        // Act
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate("old_token");
+
+        // Assert
+        assertThat(rotation.refreshToken()).isEqualTo("new_token");
+        verify(refreshTokenRepository).insertReplacement(anyString(), eq("jti-1"), eq(NOW_LOCAL.plusDays(1)), eq(NOW_LOCAL));
+    }
+
+    @Test
+    @DisplayName("Should revoke the family when a rotated token is presented again")
+    void rotate_ReusedToken_ShouldRevokeFamily() {
+        // Arrange - first use rotates the token and records it in the filter
+        stubValidToken("old_token", "jti-1");
+        when(jwtService.getRefreshExpiration()).thenReturn(Duration.ofDays(7));
+        when(refreshTokenRepository.markRotated(eq("jti-1"), anyString(), eq(NOW_LOCAL))).thenReturn(1);
+        when(jwtService.generateRefreshToken(eq(testUser), anyString(), eq(NOW.plus(Duration.ofDays(7)))))
+                .thenReturn("new_token");
+        refreshTokenService.rotate("old_token");
+
+        when(refreshTokenRepository.findById("jti-1")).thenReturn(Optional.of(revokedToken("jti-1")));
+        when(refreshTokenRepository.findIdsByFamilyId("family-1")).thenReturn(List.of("jti-1", "jti-2"));
+
+        // Act & Assert
+        assertThatThrownBy(() -> refreshTokenService.rotate("old_token"))
+                .isInstanceOf(InvalidTokenException.class)
+                .hasMessage("Refresh token is invalid or expired");
+
+        verify(refreshTokenRepository).revokeFamily("family-1", NOW_LOCAL);
+        verify(refreshTokenRepository, times(1)).markRotated(anyString(), anyString(), any());
+        assertThat(outcome("reused")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should detect reuse from the table when the filter has not seen the token")
+    void rotate_RevokedTokenMissingFromFilter_ShouldRevokeFamily() {
+        // Arrange - rotated on another instance
+        stubValidToken("old_token", "jti-1");
+        when(refreshTokenRepository.markRotated(eq("jti-1"), anyString(), eq(NOW_LOCAL))).thenReturn(0);
+        when(refreshTokenRepository.findById("jti-1")).thenReturn(Optional.of(revokedToken("jti-1")));
+        when(refreshTokenRepository.findIdsByFamilyId("family-1")).thenReturn(List.of("jti-1", "jti-2"));
+
+        // Act & Assert
+        assertThatThrownBy(() -> refreshTokenService.rotate("old_token"))
+                .isInstanceOf(InvalidTokenException.class);
+
+        verify(refreshTokenRepository).revokeFamily("family-1", NOW_LOCAL);
+        verify(refreshTokenRepository, never()).insertReplacement(anyString(), anyString(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should reject unknown tokens without revoking anything")
+    void rotate_UnknownToken_ShouldThrowInvalidToken() {
+        // Arrange
+        stubValidToken("old_token", "jti-1");
+        when(refreshTokenRepository.markRotated(eq("jti-1"), anyString(), eq(NOW_LOCAL))).thenReturn(0);
+        when(refreshTokenRepository.findById("jti-1")).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThatThrownBy(() -> refreshTokenService.rotate("old_token"))
+                .isInstanceOf(InvalidTokenException.class);
+
+        verify(refreshTokenRepository, never()).revokeFamily(anyString(), any());
+        assertThat(outcome("rejected")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should reject tokens that fail verification or carry no id before touching the table")
+    void rotate_UnverifiableOrUntrackedToken_ShouldThrowInvalidToken() {
+        // Arrange
+        when(jwtService.validateToken("malformed")).thenThrow(new MalformedJwtException("bad token"));
+        when(jwtService.validateToken("access_token")).thenReturn(claims(null));
+
+        // Act & Assert
+        assertThatThrownBy(() -> refreshTokenService.rotate("malformed"))
+                .isInstanceOf(InvalidTokenException.class);
+        assertThatThrownBy(() -> refreshTokenService.rotate("access_token"))
+                .isInstanceOf(InvalidTokenException.class);
+
+        verifyNoInteractions(refreshTokenRepository);
+    }
+
+    @Test
+    @DisplayName("Should reject tokens of users disabled since the token was issued")
+    void rotate_RevokedUser_ShouldThrowInvalidToken() {
+        // Arrange
+        JwtClaims claims = claims("jti-1");
+        when(jwtService.validateToken("old_token")).thenReturn(claims);
+        when(userRevocationRegistry.isRevoked(claims)).thenReturn(true);
+
+        // Act & Assert
+        assertThatThrownBy(() -> refreshTokenService.rotate("old_token"))
+                .isInstanceOf(InvalidTokenException.class);
+
+        verifyNoInteractions(refreshTokenRepository);
+    }
+
+    @Test
+    @DisplayName("Should load revoked ids into the filter and purge expired tokens on rebuild")
+    void rebuildRevokedTokenFilter_ShouldLoadRevokedIds() {
+        // Arrange
+        when(refreshTokenRepository.findRevokedIdsNotExpired(NOW_LOCAL)).thenReturn(List.of("jti-1"));
+        stubValidToken("old_token", "jti-1");
+        when(refreshTokenRepository.findById("jti-1")).thenReturn(Optional.of(revokedToken("jti-1")));
+        when(refreshTokenRepository.findIdsByFamilyId("family-1")).thenReturn(List.of("jti-1"));
+
+        // Act
+        refreshTokenService.rebuildRevokedTokenFilter();
+
+        // Assert - rejected from the filter and a primary key read, before any update
+        assertThatThrownBy(() -> refreshTokenService.rotate("old_token"))
+                .isInstanceOf(InvalidTokenException.class);
+        verify(refreshTokenRepository).deleteExpiredBefore(NOW_LOCAL);
+        verify(refreshTokenRepository, never()).markRotated(anyString(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Should keep serving refreshes when the filter cannot be rebuilt")
+    void rebuildRevokedTokenFilter_Failure_ShouldNotThrow() {
+        // Arrange
+        when(refreshTokenRepository.deleteExpiredBefore(NOW_LOCAL))
+                .thenThrow(new DataAccessResourceFailureException("database unavailable"));
+
+        // Act & Assert
+        assertThatCode(() -> refreshTokenService.rebuildRevokedTokenFilter()).doesNotThrowAnyException();
+    }
+
+    private void stubValidToken(String token, String tokenId) {
+        JwtClaims claims = claims(tokenId);
+        when(jwtService.validateToken(token)).thenReturn(claims);
+        when(userRevocationRegistry.isRevoked(claims)).thenReturn(false);
+    }
+
+    private static JwtClaims claims(String tokenId) {
+        return new JwtClaims("testuser", 1L, "USER", List.of("ROLE_USER"), true, "Test User",
+                NOW, NOW.plus(Duration.ofDays(7)), tokenId);
+    }
+
+    private static RefreshToken revokedToken(String id) {
+        return RefreshToken.builder()
+                .id(id)
+                .userId(1L)
+                .familyId("family-1")
+                .expiresAt(NOW_LOCAL.plusDays(7))
+                .revokedAt(NOW_LOCAL.minusMinutes(5))
+                .createdAt(NOW_LOCAL.minusDays(1))
+                .build();
+    }
+
+    private double outcome(String outcome) {
+        return meterRegistry.get("auth.refresh.tokens").tag("outcome", outcome).counter().count();
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.management_selection_admin_seek.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for RevokedTokenFilter
+ */
+@DisplayName("RevokedTokenFilter Tests")
+class RevokedTokenFilterTest {
+
+    @Test
+    @DisplayName("Should size the filter from the expected ids and false positive rate")
+    void create_ShouldSizeBitsAndHashFunctions() {
+        // Act
+        RevokedTokenFilter filter = RevokedTokenFilter.create(100_000, 0.01);
+
+        // Assert - about 9.6 bits per id and 7 hash functions for 1%
+        assertThat(filter.bitCount()).isBetween(958_000L, 959_000L);
+        assertThat(filter.hashFunctions()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("Should never miss an added id")
+    void mightContain_AddedIds_ShouldReturnTrue() {
+        // Arrange
+        RevokedTokenFilter filter = RevokedTokenFilter.create(10_000, 0.01);
+        List<String> ids = randomIds(10_000);
+
+        // Act
+        ids.forEach(filter::put);
+
+        // Assert
+        assertThat(ids).allMatch(filter::mightContain);
+    }
+
+    @Test
+    @DisplayName("Should keep false positives near the configured rate at capacity")
+    void mightContain_OtherIds_ShouldStayNearFalsePositiveRate() {
+        // Arrange
+        RevokedTokenFilter filter = RevokedTokenFilter.create(10_000, 0.01);
+        randomIds(10_000).forEach(filter::put);
+
+        // Act
+        long falsePositives = randomIds(20_000).stream().filter(filter::mightContain).count();
+
+        // Assert
+        assertThat(falsePositives / 20_000.0).isLessThan(0.02);
+    }
+
+    @Test
+    @DisplayName("Should reject invalid sizing parameters")
+    void create_InvalidParameters_ShouldThrow() {
+        // Act & Assert
+        assertThatThrownBy(() -> RevokedTokenFilter.create(0, 0.01))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RevokedTokenFilter.create(1_000, 1.0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static List<String> randomIds(int count) {
+        return IntStream.range(0, count).mapToObj(i -> UUID.randomUUID().toString()).toList();
+    }
+}
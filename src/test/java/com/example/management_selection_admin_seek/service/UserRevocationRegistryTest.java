@@ -0,0 +1,73 @@
+package com.example.management_selection_admin_seek.service;
+
+import com.example.management_selection_admin_seek.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for UserRevocationRegistry
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserRevocationRegistry Tests")
+class UserRevocationRegistryTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private UserRevocationRegistry registry;
+
+    @Test
+    @DisplayName("Should revoke tokens of users disabled after the token was issued")
+    void isRevoked_DisabledUser_ShouldReturnTrue() {
+        // Arrange
+        when(userRepository.findDisabledUserIds()).thenReturn(List.of(1L));
+
+        // Act
+        registry.refresh();
+
+        // Assert
+        assertThat(registry.isRevoked(claims(1L, true))).isTrue();
+        assertThat(registry.isRevoked(claims(2L, true))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should revoke tokens issued to a disabled account")
+    void isRevoked_DisabledClaim_ShouldReturnTrue() {
+        // Act & Assert
+        assertThat(registry.isRevoked(claims(2L, false))).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should keep the previous disabled users when reloading fails")
+    void refresh_Failure_ShouldKeepPreviousSet() {
+        // Arrange
+        when(userRepository.findDisabledUserIds())
+                .thenReturn(List.of(1L))
+                .thenThrow(new DataAccessResourceFailureException("database unavailable"));
+        registry.refresh();
+
+        // Act
+        registry.refresh();
+
+        // Assert
+        assertThat(registry.isRevoked(claims(1L, true))).isTrue();
+    }
+
+    private static JwtClaims claims(Long userId, boolean enabled) {
+        Instant now = Instant.now();
+        return new JwtClaims("user" + userId, userId, "USER", List.of("ROLE_USER"), enabled, "Test User",
+                now, now.plusSeconds(3600), null);
+    }
+}
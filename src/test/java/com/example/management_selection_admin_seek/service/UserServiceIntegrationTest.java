@@ -0,0 +1,92 @@
+package com.example.management_selection_admin_seek.service;
+
+import com.example.management_selection_admin_seek.entity.User;
+import com.example.management_selection_admin_seek.enums.Role;
+import com.example.management_selection_admin_seek.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Integration tests for UserService against the database
+ * Covers the password upgrade, which has to behave inside the caller's transaction
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("UserService Integration Tests")
+class UserServiceIntegrationTest {
+
+    private static final String OLD_HASH = "$2a$04$old.encoded.password";
+    private static final String NEW_HASH = "$2a$12$rehashed.encoded.password";
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.saveAndFlush(User.builder()
+                .username("upgrade_user")
+                .email("upgrade@example.com")
+                .password(OLD_HASH)
+                .firstName("Upgrade")
+                .lastName("User")
+                .role(Role.USER)
+                .enabled(true)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteById(user.getId());
+    }
+
+    @Test
+    @DisplayName("Should store the re-hashed password when called inside a transaction")
+    void updatePassword_InsideTransaction_ShouldStoreNewHash() {
+        // Arrange
+        AtomicReference<UserDetails> result = new AtomicReference<>();
+
+        // Act
+        new TransactionTemplate(transactionManager)
+                .executeWithoutResult(status -> result.set(userService.updatePassword(user, NEW_HASH)));
+
+        // Assert
+        assertThat(result.get().getPassword()).isEqualTo(NEW_HASH);
+        assertThat(userRepository.findById(user.getId())).map(User::getPassword).contains(NEW_HASH);
+    }
+
+    @Test
+    @DisplayName("Should leave the caller's transaction committable when the new hash cannot be stored")
+    void updatePassword_WriteFailure_ShouldNotRollBackCaller() {
+        // Arrange - longer than the password column, rejected by the database on flush
+        String tooLong = "x".repeat(300);
+        AtomicReference<UserDetails> result = new AtomicReference<>();
+
+        // Act & Assert
+        assertThatCode(() -> new TransactionTemplate(transactionManager)
+                .executeWithoutResult(status -> result.set(userService.updatePassword(user, tooLong))))
+                .doesNotThrowAnyException();
+
+        assertThat(result.get()).isSameAs(user);
+        assertThat(userRepository.findById(user.getId())).map(User::getPassword).contains(OLD_HASH);
+    }
+}
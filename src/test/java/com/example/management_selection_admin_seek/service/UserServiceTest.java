@@ -7,6 +7,7 @@ import com.example.management_selection_admin_seek.enums.Role;
 import com.example.management_selection_admin_seek.exception.DuplicateResourceException;
 import com.example.management_selection_admin_seek.mapper.UserMapper;
 import com.example.management_selection_admin_seek.repository.UserRepository;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,10 +15,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.sql.SQLException;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
@@ -87,11 +91,9 @@ class UserServiceTest {
     @DisplayName("Should register user successfully with valid data")
     void registerUser_ValidData_ShouldReturnRegisterResponse() {
         // Arrange
-        when(userRepository.existsByUsername(validRegisterRequest.getUsername())).thenReturn(false);
-        when(userRepository.existsByEmail(validRegisterRequest.getEmail())).thenReturn(false);
         when(userMapper.toEntity(validRegisterRequest)).thenReturn(validUser);
         when(passwordEncoder.encode(validRegisterRequest.getPassword())).thenReturn("encoded_password");
-        when(userRepository.save(any(User.class))).thenReturn(validUser);
+        when(userRepository.saveAndFlush(any(User.class))).thenReturn(validUser);
         when(userMapper.toRegisterResponse(validUser)).thenReturn(expectedResponse);
 
         // Act
@@ -103,11 +105,10 @@ class UserServiceTest {
         assertThat(result.getUser().getUsername()).isEqualTo("testuser");
         assertThat(result.getUser().getEmail()).isEqualTo("test@example.com");
 
-        // Verify interactions
-        verify(userRepository).existsByUsername("testuser");
-        verify(userRepository).existsByEmail("test@example.com");
+        // Verify interactions - a single insert, no uniqueness pre-checks
         verify(passwordEncoder).encode("password123");
-        verify(userRepository).save(any(User.class));
+        verify(userRepository).saveAndFlush(any(User.class));
+        verifyNoMoreInteractions(userRepository);
         verify(userMapper).toRegisterResponse(validUser);
     }
 
@@ -115,38 +116,53 @@ class UserServiceTest {
     @DisplayName("Should throw DuplicateResourceException when username already exists")
     void registerUser_ExistingUsername_ShouldThrowDuplicateResourceException() {
         // Arrange
-        when(userRepository.existsByUsername(validRegisterRequest.getUsername())).thenReturn(true);
+        when(userMapper.toEntity(validRegisterRequest)).thenReturn(validUser);
+        when(passwordEncoder.encode(validRegisterRequest.getPassword())).thenReturn("encoded_password");
+        when(userRepository.saveAndFlush(any(User.class))).thenThrow(uniqueViolation(User.USERNAME_CONSTRAINT));
 
         // Act & Assert
         assertThatThrownBy(() -> userService.registerUser(validRegisterRequest))
                 .isInstanceOf(DuplicateResourceException.class)
                 .hasMessage("User already exists with username: testuser");
 
-        // Verify that save was never called
-        verify(userRepository, never()).save(any(User.class));
+        verify(userMapper, never()).toRegisterResponse(any());
     }
 
     @Test
     @DisplayName("Should throw DuplicateResourceException when email already exists")
     void registerUser_ExistingEmail_ShouldThrowDuplicateResourceException() {
-        // Arrange
-        when(userRepository.existsByUsername(validRegisterRequest.getUsername())).thenReturn(false);
-        when(userRepository.existsByEmail(validRegisterRequest.getEmail())).thenReturn(true);
+        // Arrange - MySQL reports the key qualified with the table name
+        when(userMapper.toEntity(validRegisterRequest)).thenReturn(validUser);
+        when(passwordEncoder.encode(validRegisterRequest.getPassword())).thenReturn("encoded_password");
+        when(userRepository.saveAndFlush(any(User.class))).thenThrow(uniqueViolation("users." + User.EMAIL_CONSTRAINT));
 
         // Act & Assert
         assertThatThrownBy(() -> userService.registerUser(validRegisterRequest))
                 .isInstanceOf(DuplicateResourceException.class)
                 .hasMessage("User already exists with email: test@example.com");
 
-        // Verify that save was never called
-        verify(userRepository, never()).save(any(User.class));
+        verify(userMapper, never()).toRegisterResponse(any());
+    }
+
+    @Test
+    @DisplayName("Should rethrow integrity violations unrelated to username or email")
+    void registerUser_OtherViolation_ShouldRethrow() {
+        // Arrange
+        DataIntegrityViolationException violation = uniqueViolation("chk_users_role");
+        when(userMapper.toEntity(validRegisterRequest)).thenReturn(validUser);
+        when(passwordEncoder.encode(validRegisterRequest.getPassword())).thenReturn("encoded_password");
+        when(userRepository.saveAndFlush(any(User.class))).thenThrow(violation);
+
+        // Act & Assert
+        assertThatThrownBy(() -> userService.registerUser(validRegisterRequest))
+                .isSameAs(violation);
     }
 
     @Test
     @DisplayName("Should load user by username successfully")
     void loadUserByUsername_ExistingUsername_ShouldReturnUserDetails() {
         // Arrange
-        when(userRepository.findByUsernameOrEmail("testuser"))
+        when(userRepository.findByUsername("testuser"))
                 .thenReturn(Optional.of(validUser));
 
         // Act
@@ -160,14 +176,15 @@ class UserServiceTest {
         assertThat(result.getAuthorities()).hasSize(1);
         assertThat(result.getAuthorities().iterator().next().getAuthority()).isEqualTo("ROLE_USER");
 
-        verify(userRepository).findByUsernameOrEmail("testuser");
+        verify(userRepository).findByUsername("testuser");
+        verify(userRepository, never()).findByEmail(anyString());
     }
 
     @Test
     @DisplayName("Should load user by email successfully")
     void loadUserByUsername_ExistingEmail_ShouldReturnUserDetails() {
         // Arrange
-        when(userRepository.findByUsernameOrEmail("test@example.com"))
+        when(userRepository.findByEmail("test@example.com"))
                 .thenReturn(Optional.of(validUser));
 
         // Act
@@ -178,14 +195,15 @@ class UserServiceTest {
         assertThat(result.getUsername()).isEqualTo("testuser");
         assertThat(result.getPassword()).isEqualTo("encoded_password");
 
-        verify(userRepository).findByUsernameOrEmail("test@example.com");
+        verify(userRepository).findByEmail("test@example.com");
+        verify(userRepository, never()).findByUsername(anyString());
     }
 
     @Test
     @DisplayName("Should throw UsernameNotFoundException when user not found")
     void loadUserByUsername_NonExistingUser_ShouldThrowUsernameNotFoundException() {
         // Arrange
-        when(userRepository.findByUsernameOrEmail("nonexistent"))
+        when(userRepository.findByUsername("nonexistent"))
                 .thenReturn(Optional.empty());
 
         // Act & Assert
@@ -193,7 +211,55 @@ class UserServiceTest {
                 .isInstanceOf(UsernameNotFoundException.class)
                 .hasMessage("User not found: nonexistent");
 
-        verify(userRepository).findByUsernameOrEmail("nonexistent");
+        verify(userRepository).findByUsername("nonexistent");
+    }
+
+    @Test
+    @DisplayName("Should fall back to the username for an email-shaped identifier that matches no email")
+    void loadUserByUsername_UsernameWithAtSign_ShouldFallBackToUsername() {
+        // Arrange
+        when(userRepository.findByEmail("team@lead"))
+                .thenReturn(Optional.empty());
+        when(userRepository.findByUsername("team@lead"))
+                .thenReturn(Optional.of(validUser));
+
+        // Act
+        UserDetails result = userService.loadUserByUsername("team@lead");
+
+        // Assert
+        assertThat(result.getUsername()).isEqualTo("testuser");
+        verify(userRepository).findByEmail("team@lead");
+        verify(userRepository).findByUsername("team@lead");
+    }
+
+    @Test
+    @DisplayName("Should store the re-hashed password of a user on login upgrade")
+    void updatePassword_ExistingUser_ShouldSaveNewHash() {
+        // Arrange
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(validUser));
+        when(userRepository.saveAndFlush(validUser)).thenReturn(validUser);
+
+        // Act
+        UserDetails result = userService.updatePassword(validUser, "$2a$13$rehashed");
+
+        // Assert
+        assertThat(result.getPassword()).isEqualTo("$2a$13$rehashed");
+        verify(userRepository).saveAndFlush(argThat(user -> "$2a$13$rehashed".equals(user.getPassword())));
+    }
+
+    @Test
+    @DisplayName("Should keep the login working when the re-hashed password cannot be stored")
+    void updatePassword_DatabaseFailure_ShouldReturnOriginalUser() {
+        // Arrange
+        when(userRepository.findByUsername("testuser"))
+                .thenThrow(new DataAccessResourceFailureException("database unavailable"));
+
+        // Act
+        UserDetails result = userService.updatePassword(validUser, "$2a$13$rehashed");
+
+        // Assert
+        assertThat(result).isSameAs(validUser);
+        verify(userRepository, never()).saveAndFlush(any(User.class));
     }
 
     @Test
@@ -202,22 +268,25 @@ class UserServiceTest {
         // Arrange
         User capturedUser = User.builder().build();
         
-        when(userRepository.existsByUsername(anyString())).thenReturn(false);
-        when(userRepository.existsByEmail(anyString())).thenReturn(false);
         when(userMapper.toEntity(any())).thenReturn(capturedUser);
         when(passwordEncoder.encode(anyString())).thenReturn("encoded_password");
-        when(userRepository.save(any(User.class))).thenReturn(validUser);
+        when(userRepository.saveAndFlush(any(User.class))).thenReturn(validUser);
         when(userMapper.toRegisterResponse(any())).thenReturn(expectedResponse);
 
         // Act
         userService.registerUser(validRegisterRequest);
 
         // Assert - verify that user properties are set correctly
-        verify(userRepository).save(argThat(user -> {
+        verify(userRepository).saveAndFlush(argThat(user -> {
             assertThat(user.getPassword()).isEqualTo("encoded_password");
             assertThat(user.getRole()).isEqualTo(Role.USER);
             assertThat(user.getEnabled()).isTrue();
             return true;
         }));
     }
+
+    private static DataIntegrityViolationException uniqueViolation(String constraintName) {
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("Duplicate entry", new SQLException("Duplicate entry"), constraintName));
+    }
 }